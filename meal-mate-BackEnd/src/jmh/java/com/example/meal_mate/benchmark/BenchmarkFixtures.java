@@ -0,0 +1,86 @@
+package com.example.meal_mate.benchmark;
+
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.entity.Meal;
+import com.example.meal_mate.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JMH 벤치마크 공통 입력 데이터 (하루 식사 목록 크기 기준)
+ */
+public final class BenchmarkFixtures {
+
+    public static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+    private static final String[] MEAL_TYPES = {"breakfast", "lunch", "dinner", "snack"};
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user() {
+        return User.builder()
+                .username("bench")
+                .email("bench@bench.local")
+                .password("x")
+                .nickname("bench")
+                .dailyCalorieGoal(2200)
+                .build();
+    }
+
+    public static List<Meal> meals(int size) {
+        User user = user();
+        List<Meal> meals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            meals.add(Meal.builder()
+                    .foodName("food" + i)
+                    .calories(300 + i % 200)
+                    .protein(20.0 + i % 10)
+                    .carbs(45.5)
+                    .fat(12.25)
+                    .fiber(3.0)
+                    .sugar(8.0)
+                    .sodium(450.0)
+                    .quantity(1)
+                    .unit("g")
+                    .mealType(MEAL_TYPES[i % MEAL_TYPES.length])
+                    .mealDate(DAY.minusDays(i / MEAL_TYPES.length))
+                    .mealTime(DAY.atTime(7 + i % 12, 30))
+                    .memo(i % 3 == 0 ? "memo " + i : null)
+                    .user(user)
+                    .build());
+        }
+        return meals;
+    }
+
+    public static List<MealResponseDto> mealResponses(int size) {
+        List<MealResponseDto> responses = new ArrayList<>(size);
+        LocalDateTime createdAt = DAY.atTime(12, 0);
+        for (Meal meal : meals(size)) {
+            responses.add(MealResponseDto.builder()
+                    .id((long) responses.size() + 1)
+                    .foodName(meal.getFoodName())
+                    .calories(meal.getCalories())
+                    .protein(meal.getProtein())
+                    .carbs(meal.getCarbs())
+                    .fat(meal.getFat())
+                    .fiber(meal.getFiber())
+                    .sugar(meal.getSugar())
+                    .sodium(meal.getSodium())
+                    .quantity(meal.getQuantity())
+                    .unit(meal.getUnit())
+                    .mealType(meal.getMealType())
+                    .mealDate(meal.getMealDate())
+                    .mealTime(meal.getMealTime())
+                    .memo(meal.getMemo())
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .userId(1L)
+                    .userName("bench")
+                    .build());
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.meal_mate.benchmark;
+
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.dto.summary.DailySummaryTotalsDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 칼로리 합계/평균 계산 비용
+ * MealService 는 기간 평균을 daily_summary 합계로 계산한다 (summaryTotalsAverage).
+ * 이전의 스트림 기반 계산(식사 목록을 메모리에 올려 mapToInt 로 합산)을 기준선으로 함께 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MealAggregationBenchmark {
+
+    @Param({"4", "120", "1460"})
+    private int size;
+
+    private List<MealResponseDto> meals;
+    private DailySummaryTotalsDto totals;
+
+    @Setup
+    public void setUp() {
+        meals = BenchmarkFixtures.mealResponses(size);
+        long caloriesIn = meals.stream().mapToLong(MealResponseDto::getCalories).sum();
+        totals = new DailySummaryTotalsDto(caloriesIn, (long) size, 0L, 0L);
+    }
+
+    @Benchmark
+    public int streamSum() {
+        return meals.stream().mapToInt(MealResponseDto::getCalories).sum();
+    }
+
+    @Benchmark
+    public double streamAverage() {
+        return meals.stream().mapToInt(MealResponseDto::getCalories).average().orElse(0.0);
+    }
+
+    @Benchmark
+    public double summaryTotalsAverage() {
+        return totals.getMealCount() == 0 ? 0.0 : (double) totals.getCaloriesIn() / totals.getMealCount();
+    }
+}
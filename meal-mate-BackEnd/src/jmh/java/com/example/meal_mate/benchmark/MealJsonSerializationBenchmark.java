@@ -0,0 +1,42 @@
+package com.example.meal_mate.benchmark;
+
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List&lt;MealResponseDto&gt; JSON 직렬화 비용 (application.properties 의 Jackson 설정과 동일하게 구성)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MealJsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<MealResponseDto> meals;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        meals = BenchmarkFixtures.mealResponses(size);
+    }
+
+    @Benchmark
+    public byte[] serializeMealList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(meals);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.meal_mate.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건이 요청 스레드에서 부담하는 로그 비용 (기본 설정 vs prod 프로필)
+ * - dev: 동기 패턴 로그, 애플리케이션/시큐리티/SQL DEBUG (application.properties 기본값)
+ * - prod: 비동기 JSON(ECS) 로그, 서비스 INFO/시큐리티 DEBUG/SQL 끔 (application-prod.properties + logback-spring.xml)
+ * requestLogs 는 GET /api/meals/user/{userId}/date/{date} 한 번에 남는 로그를, warnEvent 는 두 설정 모두 남기는 한 줄을 재현한다.
+ * 출력은 임시 파일로 보낸다 (JMH 출력과 섞이지 않도록). show-sql 의 System.out 출력은 포함하지 않았다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestLoggingBenchmark {
+
+    private static final String FORMATTED_SQL = """
+            select
+                m1_0.id,
+                m1_0.food_name,
+                m1_0.calories,
+                m1_0.meal_type,
+                m1_0.meal_date,
+                m1_0.meal_time,
+                u1_0.id,
+                u1_0.username
+            from
+                meals m1_0
+            join
+                users u1_0
+                    on u1_0.id=m1_0.user_id
+            where
+                m1_0.user_id=?
+                and m1_0.meal_date=?
+            order by
+                m1_0.meal_time""";
+
+    @Param({"dev", "prod"})
+    private String profile;
+
+    private LoggerContext context;
+    private Path logFile;
+
+    private Logger securityFilterChain;
+    private Logger anonymousFilter;
+    private Logger mealService;
+    private Logger sql;
+    private Logger exceptionHandler;
+
+    private final Long userId = 42L;
+    private final LocalDate date = LocalDate.of(2025, 7, 9);
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("meal-mate-logging-bench", ".log");
+        context = new LoggerContext();
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("bench",
+                Map.of("spring.application.name", "meal-mate")));
+        context.putObject(Environment.class.getName(), environment);
+
+        Appender<ILoggingEvent> appender = "prod".equals(profile) ? asyncJson() : syncPattern();
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        if ("prod".equals(profile)) {
+            level("com.example.meal_mate", Level.INFO);
+            level("com.example.meal_mate.service", Level.WARN);
+            level("org.springframework.security", Level.WARN);
+            level("org.hibernate.SQL", Level.WARN);
+        } else {
+            level("com.example.meal_mate", Level.DEBUG);
+            level("org.springframework.security", Level.DEBUG);
+            level("org.hibernate.SQL", Level.DEBUG);
+        }
+
+        securityFilterChain = context.getLogger("org.springframework.security.web.FilterChainProxy");
+        anonymousFilter = context.getLogger("org.springframework.security.web.authentication.AnonymousAuthenticationFilter");
+        mealService = context.getLogger("com.example.meal_mate.service.MealService");
+        sql = context.getLogger("org.hibernate.SQL");
+        exceptionHandler = context.getLogger("com.example.meal_mate.exception.GlobalExceptionHandler");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void requestLogs() {
+        securityFilterChain.debug("Securing GET /api/meals/user/{}/date/{}", userId, date);
+        anonymousFilter.debug("Set SecurityContextHolder to anonymous SecurityContext");
+        securityFilterChain.debug("Secured GET /api/meals/user/{}/date/{}", userId, date);
+        mealService.info("Fetching meals for user ID: {} on date: {}", userId, date);
+        sql.debug(FORMATTED_SQL);
+    }
+
+    @Benchmark
+    public void warnEvent() {
+        exceptionHandler.warn("Service unavailable: {}", "로그인 요청이 많아 처리할 수 없습니다");
+    }
+
+    private Appender<ILoggingEvent> syncPattern() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n");
+        encoder.start();
+        return file(encoder);
+    }
+
+    private Appender<ILoggingEvent> asyncJson() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat("ecs");
+        encoder.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(file(encoder));
+        async.start();
+        return async;
+    }
+
+    private FileAppender<ILoggingEvent> file(Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(logFile.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private void level(String logger, Level level) {
+        context.getLogger(logger).setLevel(level);
+    }
+}
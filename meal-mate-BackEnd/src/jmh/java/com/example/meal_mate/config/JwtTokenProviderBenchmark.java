@@ -0,0 +1,52 @@
+package com.example.meal_mate.config;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 발급/검증 비용
+ * validateToken 은 검증 캐시 적중(반복 요청)과 미적중(처음 보는 토큰, 서명 검증 수행)을 나눠 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "your-secret-key-here-should-be-at-least-256-bits-long";
+
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        StaticListableBeanFactory noMetrics = new StaticListableBeanFactory();
+        cachingProvider = new JwtTokenProvider(SECRET, 86_400_000, 10_000, noMetrics.getBeanProvider(MeterRegistry.class));
+        // 캐시 크기 0 - 매번 파싱과 HMAC 검증
+        uncachedProvider = new JwtTokenProvider(SECRET, 86_400_000, 0, noMetrics.getBeanProvider(MeterRegistry.class));
+        token = cachingProvider.createToken("bench@bench.local");
+        cachingProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return cachingProvider.createToken("bench@bench.local");
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachingProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims validateTokenUncached() {
+        return uncachedProvider.parseClaims(token);
+    }
+}
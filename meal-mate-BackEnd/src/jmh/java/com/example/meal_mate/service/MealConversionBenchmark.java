@@ -0,0 +1,44 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.benchmark.BenchmarkFixtures;
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.entity.Meal;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MealService.convertToResponseDto (엔티티 -> 응답 DTO) 비용
+ * 목록 API 는 DTO 프로젝션을 쓰지만 생성/수정 응답과 배치 등록은 이 변환을 거친다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MealConversionBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private MealService mealService;
+    private List<Meal> meals;
+
+    @Setup
+    public void setUp() {
+        // 변환은 의존성을 쓰지 않으므로 리포지토리/캐시 없이 생성 (생성자가 바뀌면 컴파일 단계에서 드러나도록 직접 호출)
+        mealService = new MealService(null, null, null, null, null, null);
+        meals = BenchmarkFixtures.meals(size);
+    }
+
+    @Benchmark
+    public void convertToResponseDto(Blackhole blackhole) {
+        for (Meal meal : meals) {
+            MealResponseDto dto = mealService.convertToResponseDto(meal);
+            blackhole.consume(dto);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.meal_mate.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 직후에 작업 실행 (트랜잭션 밖이면 바로 실행, 롤백되면 실행하지 않음)
+ * 캐시 반영/무효화를 커밋 전에 하면 롤백된 값이 남거나 다른 요청이 커밋 전 값을 다시 채울 수 있다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.meal_mate.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * http.server.requests 에 처리한 컨트롤러 메서드(handler=MealController.getMealsByDate) 태그 추가
+ * uri 템플릿만으로는 같은 경로의 GET/PUT/DELETE 구분 외에 메서드 단위 대시보드를 만들기 번거로우므로
+ * 컨트롤러 메서드별 지연시간 히스토그램을 바로 조회할 수 있게 한다.
+ */
+@Component
+public class HandlerObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String HANDLER_TAG = "handler";
+    static final String NO_HANDLER = "none";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context).and(KeyValue.of(HANDLER_TAG, handlerName(handler)));
+    }
+
+    static String handlerName(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return NO_HANDLER;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.meal_mate.config;
+
+import com.example.meal_mate.entity.Meal;
+import com.example.meal_mate.entity.Workout;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 기동 시 식사/운동 id 시퀀스가 기존 행의 MAX(id) 보다 앞서 있는지 확인하고, 뒤처져 있으면 끌어올림
+ * IDENTITY 로 쌓인 기존 DB 에 ddl-auto=update 가 meals_seq / workouts_seq 를 1 부터 만들면 새 insert 가 기존 id 와 충돌하기 때문.
+ *
+ * pooled 할당은 시퀀스 값 v 를 받으면 (v - allocationSize, v] 를 쓰므로 다음 값이 MAX(id) + allocationSize 이상이어야 한다.
+ * MySQL 처럼 시퀀스가 없는 DB 는 Hibernate 가 만든 next_val 테이블을, 시퀀스가 있는 DB 는 시퀀스를 직접 맞춘다.
+ * 맞춘 뒤에도 뒤처져 있으면 기동을 중단한다.
+ */
+@Component
+@Slf4j
+public class IdSequenceSeeder {
+
+    private static final List<Class<?>> SEQUENCED_ENTITIES = List.of(Meal.class, Workout.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SequenceSupport sequenceSupport;
+
+    // EntityManagerFactory 를 주입받아 ddl-auto 로 테이블/시퀀스가 만들어진 뒤에 실행되도록 함
+    public IdSequenceSeeder(DataSource dataSource,
+                            PlatformTransactionManager transactionManager,
+                            EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.sequenceSupport = dialect.getSequenceSupport();
+    }
+
+    @PostConstruct
+    void seed() {
+        for (Class<?> entity : SEQUENCED_ENTITIES) {
+            String table = entity.getAnnotation(Table.class).name();
+            SequenceGenerator generator = idGenerator(entity);
+            transactionTemplate.executeWithoutResult(status ->
+                    seed(table, generator.sequenceName(), generator.allocationSize()));
+        }
+    }
+
+    private void seed(String table, String sequence, int allocationSize) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        if (maxId == 0) {
+            return; // 빈 테이블은 충돌할 id 가 없음
+        }
+        long required = maxId + allocationSize;
+
+        long next = sequenceSupport.supportsSequences()
+                ? seedSequence(sequence, required)
+                : seedTable(sequence, required);
+
+        if (next < required) {
+            throw new IllegalStateException(String.format(
+                    "%s 의 다음 값 %d 이 %s 의 MAX(id) %d + %d 보다 작아 id 가 충돌합니다",
+                    sequence, next, table, maxId, allocationSize));
+        }
+        log.info("Id sequence {} ready: next value {} (MAX({}.id) = {})", sequence, next, table, maxId);
+    }
+
+    // 시퀀스 지원 DB - nextval 로 현재 위치를 확인 (한 블록을 건너뛰지만 id 에 빈 구간만 생김)
+    private long seedSequence(String sequence, long required) {
+        String nextValue = sequenceSupport.getSequenceNextValString(sequence);
+        long next = jdbcTemplate.queryForObject(nextValue, Long.class);
+        if (next < required) {
+            log.warn("Id sequence {} is behind ({} < {}), restarting", sequence, next, required);
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + required);
+            next = jdbcTemplate.queryForObject(nextValue, Long.class);
+        }
+        return next;
+    }
+
+    // 시퀀스 테이블 DB (MySQL) - 다른 인스턴스와 동시에 기동해도 뒤로 돌아가지 않도록 조건부 UPDATE
+    private long seedTable(String sequence, long required) {
+        int updated = jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", required, required);
+        List<Long> values = jdbcTemplate.queryForList("SELECT next_val FROM " + sequence, Long.class);
+        if (values.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + sequence + " (next_val) VALUES (?)", required);
+            return required;
+        }
+        if (updated > 0) {
+            log.warn("Id sequence table {} was behind, moved next_val to {}", sequence, required);
+        }
+        return values.get(0);
+    }
+
+    private static SequenceGenerator idGenerator(Class<?> entity) {
+        try {
+            return entity.getDeclaredField("id").getAnnotation(SequenceGenerator.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(entity.getSimpleName() + " 에 id 필드가 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.meal_mate.config;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * /actuator/jfr - 재시작 없이 정해진 시간 동안 Java Flight Recorder 기록을 남기고 .jfr 파일로 내려받는다 (관리자 전용)
+ * 예: curl -H "Authorization: Bearer ..." -o meal-mate.jfr "http://127.0.0.1:8081/actuator/jfr?duration=60s&profile=profile"
+ * - profile: default (상시 기록용, 오버헤드 약 1%) / profile (샘플링 주기가 짧고 할당 정보가 많음, 약 2%)
+ * - 기록에는 ServiceMethodEvent, JwtAuthenticationEvent 가 함께 남아 JMC 에서 endpoint 별로 CPU/할당을 나눠 볼 수 있다.
+ * 요청 스레드는 기록이 끝날 때까지 대기하며, 동시에 하나의 기록만 허용한다 (진행 중이면 429).
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@Slf4j
+public class JfrEndpoint {
+
+    private static final Set<String> PROFILES = Set.of("default", "profile");
+
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    public JfrEndpoint(@Value("${meal-mate.jfr.default-duration:30s}") Duration defaultDuration,
+                       @Value("${meal-mate.jfr.max-duration:5m}") Duration maxDuration) {
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> record(@Nullable Duration duration, @Nullable String profile)
+            throws IOException, ParseException {
+        Duration length = duration == null ? defaultDuration : duration;
+        String configuration = profile == null ? "default" : profile;
+        if (length.isNegative() || length.isZero() || length.compareTo(maxDuration) > 0
+                || !PROFILES.contains(configuration)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (!recording.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+
+        try {
+            Path file = Files.createTempFile("meal-mate-", ".jfr");
+            try (Recording jfr = new Recording(Configuration.getConfiguration(configuration))) {
+                jfr.setName("meal-mate-on-demand");
+                jfr.setToDisk(true);
+                jfr.setDestination(file);
+                log.info("JFR recording started: profile={}, duration={}", configuration, length);
+                jfr.start();
+                Thread.sleep(length.toMillis());
+                jfr.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Files.deleteIfExists(file);
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+            }
+            log.info("JFR recording finished: {} bytes", Files.size(file));
+            return new WebEndpointResponse<>(new TemporaryFileResource(file), WebEndpointResponse.STATUS_OK);
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    // 응답으로 다 읽은 뒤 임시 파일을 지움 (HeapDumpWebEndpoint 와 같은 방식)
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return Channels.newChannel(getInputStream());
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            Path file = getFile().toPath();
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        }
+
+        // 파일로 취급하면 zero-copy 전송으로 getInputStream 을 거치지 않아 삭제되지 않음
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+    }
+}
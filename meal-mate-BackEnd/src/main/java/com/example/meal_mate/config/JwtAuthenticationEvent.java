@@ -0,0 +1,28 @@
+package com.example.meal_mate.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: JwtAuthenticationFilter 의 토큰 검증 구간 (다음 필터/컨트롤러 처리 시간은 포함하지 않음)
+ */
+@Name("com.example.meal_mate.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"Meal Mate", "Security"})
+@Description("Bearer token verification in JwtAuthenticationFilter")
+@StackTrace(false)
+class JwtAuthenticationEvent extends Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Token Present")
+    boolean tokenPresent;
+
+    @Label("Authenticated")
+    boolean authenticated;
+}
@@ -1,24 +1,40 @@
 package com.example.meal_mate.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    static final String ROLE_ADMIN = "ROLE_ADMIN";
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority(ROLE_ADMIN));
+
     private final JwtTokenProvider jwtTokenProvider;
 
+    // 관리자 전용 actuator(/actuator/jfr 등)에 접근할 수 있는 사용자 이메일
+    private final Set<String> adminEmails;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   @Value("${meal-mate.security.admin-emails:}") Set<String> adminEmails) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.adminEmails = Set.copyOf(adminEmails);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -39,16 +55,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             token = header.substring(7);
         }
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String userEmail = jwtTokenProvider.getUserEmail(token);
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userEmail, null, null);
+        // 검증과 이메일 추출을 한 번의 파싱으로 처리 (이미 검증된 토큰은 캐시에서 바로 조회)
+        Claims claims = token != null ? jwtTokenProvider.parseClaims(token) : null;
+
+        if (claims != null) {
+            String userEmail = claims.getSubject();
+
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    userEmail, null, adminEmails.contains(userEmail) ? ADMIN_AUTHORITIES : null);
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.tokenPresent = token != null;
+            event.authenticated = claims != null;
+            event.commit();
+        }
+
         filterChain.doFilter(request, response);
     }
 }
\ No newline at end of file
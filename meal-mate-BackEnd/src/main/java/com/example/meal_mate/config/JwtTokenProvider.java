@@ -1,19 +1,57 @@
 package com.example.meal_mate.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.TextCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-    
-    @Value("${jwt.expiration}")
-    private long validityInMilliseconds;
+    static final String CACHE_NAME = "verifiedJwt";
+
+    private final long validityInMilliseconds;
+
+    // 서명 키와 파서는 시작 시 한 번만 만들어 재사용 (설정 후에는 상태가 바뀌지 않아 스레드 간 공유 가능)
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    // 검증을 통과한 토큰의 SHA-256 다이제스트 -> Claims (토큰 원문은 메모리에 남기지 않음)
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.expiration}") long validityInMilliseconds,
+                            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.validityInMilliseconds = validityInMilliseconds;
+        // 기존 signWith/setSigningKey(String) 과 같은 키가 되도록 Base64 로 디코딩
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secretKey),
+                SignatureAlgorithm.HS256.getJcaName());
+        this.parser = Jwts.parser().setSigningKey(signingKey);
+        // 각 항목은 토큰의 exp 시각에 만료되므로 만료된 토큰이 캐시로 통과하지 않음
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, verifiedTokens, CACHE_NAME));
+    }
 
     // JWT 토큰 생성 메서드
     public String createToken(String userEmail) {
@@ -24,28 +62,84 @@ public class JwtTokenProvider {
                 .setSubject(userEmail)          // 토큰 제목 (식별자)
                 .setIssuedAt(now)               // 발급 시간
                 .setExpiration(validity)        // 만료 시간
-                .signWith(SignatureAlgorithm.HS256, secretKey) // 서명 알고리즘 및 키
+                .signWith(SignatureAlgorithm.HS256, signingKey) // 서명 알고리즘 및 키
                 .compact();
     }
 
+    /**
+     * 토큰을 검증하고 Claims 를 반환합니다. 유효하지 않으면 null.
+     * 한 번 검증한 토큰은 exp 까지 캐시하므로 같은 토큰의 반복 요청은 파싱/HMAC 검증 없이 처리됩니다.
+     */
+    public Claims parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            // 무효 토큰은 캐시하지 않음 (임의 토큰으로 캐시를 채우는 것을 막기 위해)
+            verifiedTokens.put(digest, claims);
+            return claims;
+        } catch (ExpiredJwtException | UnsupportedJwtException | MalformedJwtException |
+                 SignatureException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // 토큰에서 사용자 이메일(주제) 추출
     public String getUserEmail(String token) {
-        return Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            throw new MalformedJwtException("유효하지 않은 토큰입니다");
+        }
+        return claims.getSubject();
     }
 
     // 토큰 유효성 검증 메서드
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    private static String digest(String token) {
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true; // 토큰 정상
-        } catch (ExpiredJwtException | UnsupportedJwtException | MalformedJwtException |
-                 SignatureException | IllegalArgumentException e) {
-            // 예외 발생시 토큰 무효
-            return false;
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+
+    // 생성 시점 기준 exp 까지 남은 시간만큼만 보관 (exp 가 없으면 크기 제한으로만 축출)
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
@@ -0,0 +1,79 @@
+package com.example.meal_mate.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 요청 경로의 사용자 ID 를 ReadYourWritesTracker 에 알려 줌
+ * /api/.../user/{userId}/... 또는 /api/users/{id}/... 는 경로의 ID 를,
+ * /api/meals/{id}, /api/workouts/{id} 는 최근에 그 기록을 변경한 소유자를 사용자로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String USERS_PATH = "/api/users/";
+    private static final String MEALS_PATH = "/api/meals/";
+    private static final String WORKOUTS_PATH = "/api/workouts/";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!readYourWritesTracker.isEnabled()) {
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null) {
+            return true;
+        }
+        try {
+            Long userId = resolveUser(request.getRequestURI(), variables);
+            if (userId != null) {
+                readYourWritesTracker.setCurrentUser(userId);
+            }
+        } catch (NumberFormatException e) {
+            // 형식 오류는 컨트롤러 바인딩에서 400 으로 처리됨
+        }
+        return true;
+    }
+
+    private Long resolveUser(String uri, Map<String, String> variables) {
+        String userId = variables.get("userId");
+        if (userId != null) {
+            return Long.valueOf(userId);
+        }
+        String id = variables.get("id");
+        if (id == null) {
+            return null;
+        }
+        if (uri.startsWith(USERS_PATH)) {
+            return Long.valueOf(id);
+        }
+        if (uri.startsWith(MEALS_PATH)) {
+            return readYourWritesTracker.recentOwnerOf(ReadYourWritesTracker.Resource.MEAL, Long.valueOf(id));
+        }
+        if (uri.startsWith(WORKOUTS_PATH)) {
+            return readYourWritesTracker.recentOwnerOf(ReadYourWritesTracker.Resource.WORKOUT, Long.valueOf(id));
+        }
+        return null;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        readYourWritesTracker.clearCurrentUser();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        readYourWritesTracker.clearCurrentUser();
+    }
+}
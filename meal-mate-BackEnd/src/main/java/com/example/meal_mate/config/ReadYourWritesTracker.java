@@ -0,0 +1,128 @@
+package com.example.meal_mate.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 직후 같은 사용자의 읽기를 primary 로 보내기 위한 기록 (read-your-writes)
+ * 복제 지연 때문에 방금 저장한 기록이 replica 에서 안 보이는 문제를 막는다.
+ *
+ * 쓰기 트랜잭션이 커밋되면 사용자별로 "window 가 끝나는 시각"을 남기고,
+ * 요청 처리 중인 사용자(ReadYourWritesInterceptor 가 경로에서 추출)가 그 시각 이전이면
+ * ReadWriteRoutingDataSource 가 readOnly 트랜잭션이라도 primary 를 사용한다.
+ * /api/meals/{id} 처럼 경로에 사용자 ID 가 없는 단건 조회를 위해 방금 쓴 기록의 소유자도 같은 window 동안 남긴다.
+ * window 가 0 이면 아무것도 기록하지 않는다.
+ */
+@Component
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<Long> CURRENT_USER = new ThreadLocal<>();
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    // 경로에 사용자 ID 가 없는 단건 리소스
+    public enum Resource {
+        MEAL, WORKOUT
+    }
+
+    private record ResourceKey(Resource resource, Long id) {
+    }
+
+    private record Owner(Long userId, long until) {
+    }
+
+    private final long windowNanos;
+    private final Map<Long, Long> primaryUntil = new ConcurrentHashMap<>();
+    private final Map<ResourceKey, Owner> recentOwners = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(@Value("${meal-mate.datasource.read-your-writes-window:0s}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public boolean isEnabled() {
+        return windowNanos > 0;
+    }
+
+    /**
+     * 사용자 데이터가 변경되었음을 기록합니다. 트랜잭션 안이면 커밋된 뒤에 반영됩니다.
+     */
+    public void recordWrite(Long userId) {
+        if (!isEnabled() || userId == null) {
+            return;
+        }
+        AfterCommit.run(() -> markPrimary(userId));
+    }
+
+    /**
+     * 변경된 단건 리소스의 소유자를 기록합니다. window 동안 그 리소스를 조회하면 소유자의 쓰기로 보고 primary 를 사용합니다.
+     */
+    public void recordOwner(Resource resource, Long id, Long userId) {
+        if (!isEnabled() || id == null || userId == null) {
+            return;
+        }
+        AfterCommit.run(() -> markOwner(new ResourceKey(resource, id), userId));
+    }
+
+    // window 이내에 변경된 리소스면 소유자 ID, 아니면 null
+    public Long recentOwnerOf(Resource resource, Long id) {
+        ResourceKey key = new ResourceKey(resource, id);
+        Owner owner = recentOwners.get(key);
+        if (owner == null) {
+            return null;
+        }
+        if (owner.until() - System.nanoTime() > 0) {
+            return owner.userId();
+        }
+        recentOwners.remove(key, owner);
+        return null;
+    }
+
+    // 현재 요청의 사용자가 최근에 쓰기를 했는지 (window 이내)
+    public boolean mustReadFromPrimary() {
+        Long userId = CURRENT_USER.get();
+        if (userId == null) {
+            return false;
+        }
+        Long until = primaryUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        primaryUntil.remove(userId, until);
+        return false;
+    }
+
+    public void setCurrentUser(Long userId) {
+        CURRENT_USER.set(userId);
+    }
+
+    public void clearCurrentUser() {
+        CURRENT_USER.remove();
+    }
+
+    private void markOwner(ResourceKey key, Long userId) {
+        long now = System.nanoTime();
+        recentOwners.put(key, new Owner(userId, now + windowNanos));
+
+        if (recentOwners.size() > SWEEP_THRESHOLD) {
+            recentOwners.values().removeIf(owner -> owner.until() - now <= 0);
+        }
+    }
+
+    private void markPrimary(Long userId) {
+        long now = System.nanoTime();
+        primaryUntil.merge(userId, now + windowNanos, Math::max);
+
+        // 만료된 항목이 쌓이지 않도록 일정 크기를 넘으면 정리
+        if (primaryUntil.size() > SWEEP_THRESHOLD) {
+            primaryUntil.values().removeIf(until -> until - now <= 0);
+        }
+    }
+}
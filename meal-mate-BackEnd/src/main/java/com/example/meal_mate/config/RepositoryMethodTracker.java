@@ -0,0 +1,45 @@
+package com.example.meal_mate.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+
+/**
+ * 현재 스레드에서 실행 중인 리포지토리 메서드 (TimingDataSource 가 SQL 의 출처로 기록)
+ * StatementStatisticsConfig 가 모든 리포지토리 프록시에 이 인터셉터를 추가한다.
+ * Spring Data 의 RepositoryMethodContext 는 컨텍스트가 없을 때 예외를 던지므로 SQL 마다 조회하기에는 맞지 않아 따로 둔다.
+ */
+final class RepositoryMethodTracker implements MethodInterceptor {
+
+    private static final ThreadLocal<Invocation> CURRENT = new ThreadLocal<>();
+
+    record Invocation(Class<?> repository, Method method) {
+    }
+
+    private final Class<?> repositoryInterface;
+
+    RepositoryMethodTracker(Class<?> repositoryInterface) {
+        this.repositoryInterface = repositoryInterface;
+    }
+
+    // 리포지토리 밖(지연 로딩, 커밋 시 flush 등)이면 null
+    static Invocation current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Invocation previous = CURRENT.get();
+        CURRENT.set(new Invocation(repositoryInterface, invocation.getMethod()));
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.meal_mate.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 예약 작업 활성화 (TopItemsRecountJob 등)
+ * 각 작업은 cron 속성을 "-" 로 두면 꺼진다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,6 +2,8 @@ package com.example.meal_mate.config;
 
 import com.example.meal_mate.config.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,6 +31,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/users/login", "/api/users/register").permitAll()  // 로그인, 회원가입은 인증 안함
                         .requestMatchers("/api/users/**").authenticated()                       // 나머지 users API는 인증 필요
+                        .requestMatchers(EndpointRequest.to(JfrEndpoint.class)).hasRole("ADMIN")  // JFR 기록은 관리자만 (meal-mate.security.admin-emails)
                         .anyRequest().permitAll()                                               // 그 외 요청은 필요에 따라 허용
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -43,7 +46,8 @@ public class SecurityConfig {
 
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${meal-mate.security.bcrypt-strength:10}") int strength) {
+        // 비용(log2 라운드)을 올리면 해시 1회 시간이 2배씩 늘어남 - 기존 해시는 비용과 무관하게 검증됨
+        return new BCryptPasswordEncoder(strength);
     }
 }
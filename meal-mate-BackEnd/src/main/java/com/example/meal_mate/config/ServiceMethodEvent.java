@@ -0,0 +1,34 @@
+package com.example.meal_mate.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: 서비스 메서드 1회 실행 (ServiceProfilingAspect)
+ * 같은 스레드/시간대의 CPU 샘플(jdk.ExecutionSample), 할당 샘플(jdk.ObjectAllocationSample)을
+ * endpoint 별로 묶어 볼 수 있도록 처리 중인 컨트롤러 메서드를 함께 남긴다.
+ */
+@Name("com.example.meal_mate.ServiceMethod")
+@Label("Service Method")
+@Category({"Meal Mate", "Service"})
+@Description("Execution of a MealService, WorkoutService or UserService method")
+@StackTrace(false)
+class ServiceMethodEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("Controller method handling the current request (MealController.getMealsByDate)")
+    String endpoint;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,58 @@
+package com.example.meal_mate.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * MealService / WorkoutService / UserService 의 public 메서드를 ServiceMethodEvent 로 기록
+ * JFR 기록 중이 아니면 isEnabled() 확인 한 번으로 끝나므로 평소 비용은 거의 없다.
+ * 트랜잭션 커밋 시간까지 포함되도록 @Transactional 프록시보다 바깥에서 실행한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceProfilingAspect {
+
+    @Around("execution(public * com.example.meal_mate.service.MealService.*(..))"
+            + " || execution(public * com.example.meal_mate.service.WorkoutService.*(..))"
+            + " || execution(public * com.example.meal_mate.service.UserService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceMethodEvent event = new ServiceMethodEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.endpoint = currentEndpoint();
+                event.commit();
+            }
+        }
+    }
+
+    private static String currentEndpoint() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return HandlerObservationConvention.handlerName(
+                    request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE));
+        }
+        return HandlerObservationConvention.NO_HANDLER;
+    }
+}
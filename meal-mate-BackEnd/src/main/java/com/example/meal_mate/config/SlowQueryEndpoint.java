@@ -0,0 +1,54 @@
+package com.example.meal_mate.config;
+
+import com.example.meal_mate.config.StatementStatistics.StatementSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * /actuator/slowqueries - SQL 모양별 통계 상위 N 개 (관리 포트에서만 노출)
+ * - slowest: p99 가 큰 순, mostFrequent: 실행 횟수 순, mostTotalTime: 누적 시간 순
+ * - ?repository=MealRepository 로 해당 리포지토리 메서드가 실행한 SQL 만 볼 수 있다.
+ * - DELETE 로 통계를 초기화한다 (배포/부하 테스트 구간별로 보고 싶을 때).
+ */
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    static final int DEFAULT_LIMIT = 10;
+
+    private final StatementStatistics statementStatistics;
+
+    @ReadOperation
+    public SlowQueryReport report(@Nullable Integer limit, @Nullable String repository) {
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+        List<StatementSummary> summaries = statementStatistics.summaries().stream()
+                .filter(summary -> repository == null || summary.repositoryMethods().stream()
+                        .anyMatch(method -> method.startsWith(repository + ".")))
+                .toList();
+
+        return new SlowQueryReport(statementStatistics.size(),
+                top(summaries, StatementSummary.SLOWEST, size),
+                top(summaries, StatementSummary.MOST_FREQUENT, size),
+                top(summaries, StatementSummary.MOST_TOTAL_TIME, size));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statementStatistics.reset();
+    }
+
+    private static List<StatementSummary> top(List<StatementSummary> summaries, Comparator<StatementSummary> order,
+                                              int limit) {
+        return summaries.stream().sorted(order).limit(limit).toList();
+    }
+
+    public record SlowQueryReport(int trackedStatements, List<StatementSummary> slowest,
+                                  List<StatementSummary> mostFrequent, List<StatementSummary> mostTotalTime) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.meal_mate.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청(스레드) 단위 SQL 실행 횟수와 같은 모양의 반복 SQL(N+1) 집계
+ * Hibernate 가 준비하는 모든 SQL 을 거치는 StatementInspector 로 등록되며
+ * (spring.jpa.properties.hibernate.session_factory.statement_inspector),
+ * Hibernate 가 직접 생성하므로 상태는 static ThreadLocal 에 둔다.
+ * start() ~ stop() 사이가 아닌 스레드(스케줄러, 시작 작업 등)에서는 세지 않으며,
+ * 구간은 중첩될 수 있다 (테스트 전체 구간 안에서 요청 구간이 열리는 경우 두 구간 모두 센다).
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Deque<Stats>> ACTIVE = new ThreadLocal<>();
+
+    // IN (?, ?, ?) 목록 길이, 리터럴 값, 공백 차이는 같은 모양으로 본다
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static Stats start() {
+        Deque<Stats> active = ACTIVE.get();
+        if (active == null) {
+            active = new ArrayDeque<>();
+            ACTIVE.set(active);
+        }
+        Stats stats = new Stats();
+        active.push(stats);
+        return stats;
+    }
+
+    // 구간을 닫고 그 구간의 집계를 반환
+    public static Stats stop(Stats stats) {
+        Deque<Stats> active = ACTIVE.get();
+        if (active != null) {
+            active.remove(stats);
+            if (active.isEmpty()) {
+                ACTIVE.remove();
+            }
+        }
+        return stats;
+    }
+
+    // 가장 안쪽 구간의 현재 SQL 수 (구간이 없으면 0)
+    public static int current() {
+        Deque<Stats> active = ACTIVE.get();
+        return active == null || active.isEmpty() ? 0 : active.peek().getStatements();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Deque<Stats> active = ACTIVE.get();
+        if (active != null && !active.isEmpty()) {
+            String shape = shapeOf(sql);
+            for (Stats stats : active) {
+                stats.record(shape);
+            }
+        }
+        return sql;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /**
+     * 한 구간의 SQL 집계 (단일 스레드에서만 갱신됨)
+     */
+    public static final class Stats {
+
+        private int statements;
+        private final Map<String, Integer> shapes = new HashMap<>();
+
+        private void record(String shape) {
+            statements++;
+            shapes.merge(shape, 1, Integer::sum);
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        /**
+         * threshold 번 이상 실행된 같은 모양의 SQL (많이 반복된 순)
+         */
+        public Map<String, Integer> repeatedShapes(int threshold) {
+            if (statements < threshold) {
+                return Collections.emptyMap();
+            }
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.meal_mate.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Map;
+
+/**
+ * 개발 환경용: 응답 본문을 쓰기 직전에 요청의 SQL 집계를 응답 헤더로 노출
+ * - X-SQL-Statements: 지금까지 실행된 SQL 수
+ * - X-SQL-Repeated: 같은 모양으로 n-plus-one-threshold 번 이상 실행된 SQL ("횟수x SQL", 최대 5개)
+ * 헤더는 본문보다 먼저 나가야 하므로 afterCompletion 이 아닌 여기서 쓴다 (본문이 없는 응답에는 붙지 않음).
+ * meal-mate.sql.report-headers=true 일 때만 등록되며 운영 프로필에서는 끈다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "meal-mate.sql.report-headers", havingValue = "true")
+@RequiredArgsConstructor
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String REPEATED_HEADER = "X-SQL-Repeated";
+
+    private static final int MAX_REPEATED_HEADERS = 5;
+    private static final int MAX_SQL_LENGTH = 300;
+
+    private final SqlStatementMetricsInterceptor sqlStatementMetricsInterceptor;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(SqlStatementMetricsInterceptor.STATS_ATTRIBUTE)
+                instanceof SqlStatementCounter.Stats stats) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            stats.repeatedShapes(sqlStatementMetricsInterceptor.getNPlusOneThreshold()).entrySet().stream()
+                    .limit(MAX_REPEATED_HEADERS)
+                    .forEach(entry -> response.getHeaders().add(REPEATED_HEADER,
+                            entry.getValue() + "x " + abbreviate(entry.getKey())));
+        }
+        return body;
+    }
+
+    // 헤더 값은 한 줄 ASCII 여야 하므로 그 밖의 문자는 ? 로 바꾸고 길이를 제한
+    private static String abbreviate(String sql) {
+        String ascii = sql.replaceAll("[^\\x20-\\x7E]", "?");
+        return ascii.length() <= MAX_SQL_LENGTH ? ascii : ascii.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.meal_mate.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+
+/**
+ * 요청당 SQL 실행 횟수를 컨트롤러 메서드별 분포(sql.statements.per.request{handler=...})로 기록
+ * 목록 API 가 1회, 단건 조회가 1~2회를 넘기 시작하면 N+1 이 생긴 것이다.
+ * 같은 모양의 SQL 이 한 요청에서 n-plus-one-threshold 번 이상 실행되면 sql.n_plus_one{handler=...} 를 올린다.
+ */
+@Component
+@Slf4j
+public class SqlStatementMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String METRIC_NAME = "sql.statements.per.request";
+    static final String N_PLUS_ONE_METRIC_NAME = "sql.n_plus_one";
+
+    // 요청 구간의 집계 (SqlStatementHeaderAdvice 가 응답 헤더를 쓸 때 읽음)
+    static final String STATS_ATTRIBUTE = SqlStatementMetricsInterceptor.class.getName() + ".stats";
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public SqlStatementMetricsInterceptor(MeterRegistry meterRegistry,
+                                          @Value("${meal-mate.sql.n-plus-one-threshold:3}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    int getNPlusOneThreshold() {
+        return nPlusOneThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(STATS_ATTRIBUTE, SqlStatementCounter.start());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(STATS_ATTRIBUTE) instanceof SqlStatementCounter.Stats stats)) {
+            return;
+        }
+        SqlStatementCounter.stop(stats);
+        String handlerName = HandlerObservationConvention.handlerName(handler);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per request")
+                .tag(HandlerObservationConvention.HANDLER_TAG, handlerName)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        Map<String, Integer> repeated = stats.repeatedShapes(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder(N_PLUS_ONE_METRIC_NAME)
+                    .description("Requests that executed the same SQL shape repeatedly")
+                    .tag(HandlerObservationConvention.HANDLER_TAG, handlerName)
+                    .register(meterRegistry)
+                    .increment();
+            log.debug("Repeated SQL in {}: {}", handlerName, repeated);
+        }
+    }
+
+    // 스트리밍 응답 등 비동기 처리로 넘어가면 요청 스레드의 집계는 여기서 끝냄 (스레드 재사용 시 누수 방지)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(STATS_ATTRIBUTE) instanceof SqlStatementCounter.Stats stats) {
+            SqlStatementCounter.stop(stats);
+            request.removeAttribute(STATS_ATTRIBUTE);
+        }
+    }
+}
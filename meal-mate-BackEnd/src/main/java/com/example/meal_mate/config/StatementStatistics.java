@@ -0,0 +1,196 @@
+package com.example.meal_mate.config;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * SQL 모양(SqlStatementCounter.shapeOf)별 실행 통계: 횟수, 총 시간, 최대, p99
+ * TimingDataSource 가 모든 실행 시간을 여기에 기록하고 /actuator/slowqueries 가 상위 N 개를 보여준다.
+ *
+ * 실행 경로에서는 잠금 없이 LongAdder/LongAccumulator(스레드별로 나뉜 셀) 와 지연시간 히스토그램(AtomicLongArray) 만 갱신한다.
+ * 히스토그램은 2의 거듭제곱 구간을 다시 4칸으로 나눈 마이크로초 버킷이라 p99 는 최대 25% 위로 어림된다.
+ * 모양 수는 maxStatements 로 제한하며, 넘치면 나머지는 OTHER 한 곳에 모은다.
+ */
+public class StatementStatistics {
+
+    static final String OTHER = "(other statements)";
+
+    private static final int SUB_BUCKETS = 4;
+    // 2^36us (약 19시간) 이상은 마지막 버킷
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - 1) * SUB_BUCKETS;
+
+    private final int maxStatements;
+
+    // Hibernate 가 만드는 SQL 원문은 종류가 한정되어 있으므로 원문 -> 통계를 캐시해 매번 정규화하지 않음
+    private final Map<String, ShapeStatistics> bySql = new ConcurrentHashMap<>();
+    private final Map<String, ShapeStatistics> byShape = new ConcurrentHashMap<>();
+    private final ShapeStatistics other = new ShapeStatistics(OTHER);
+
+    public StatementStatistics(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * @param repositoryMethod 실행을 일으킨 리포지토리 메서드 (지연 로딩, flush 등 리포지토리 밖에서 실행되면 null)
+     */
+    public void record(String sql, Class<?> repository, Method repositoryMethod, long elapsedNanos) {
+        ShapeStatistics statistics = bySql.get(sql);
+        if (statistics == null) {
+            statistics = lookup(sql);
+        }
+        statistics.record(elapsedNanos);
+        if (repository != null && repositoryMethod != null) {
+            statistics.addSource(repository, repositoryMethod);
+        }
+    }
+
+    private ShapeStatistics lookup(String sql) {
+        String shape = SqlStatementCounter.shapeOf(sql);
+        ShapeStatistics statistics = byShape.get(shape);
+        if (statistics == null) {
+            statistics = byShape.size() >= maxStatements
+                    ? other
+                    : byShape.computeIfAbsent(shape, ShapeStatistics::new);
+        }
+        // IN 목록 길이마다 원문이 달라질 수 있으므로 원문 캐시도 같은 한도로 제한
+        if (bySql.size() < maxStatements * 4) {
+            bySql.putIfAbsent(sql, statistics);
+        }
+        return statistics;
+    }
+
+    public List<StatementSummary> summaries() {
+        List<StatementSummary> summaries = new ArrayList<>(byShape.size() + 1);
+        byShape.values().forEach(statistics -> summaries.add(statistics.summary()));
+        if (other.count.sum() > 0) {
+            summaries.add(other.summary());
+        }
+        return summaries;
+    }
+
+    public int size() {
+        return byShape.size();
+    }
+
+    public void reset() {
+        bySql.clear();
+        byShape.clear();
+        other.reset();
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(micros, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) ((micros >>> (exponent - 2)) & (SUB_BUCKETS - 1));
+        return Math.min(SUB_BUCKETS + (exponent - 2) * SUB_BUCKETS + sub, BUCKETS - 1);
+    }
+
+    // 버킷의 (배타적) 상한 마이크로초
+    static long upperBoundMicros(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket + 1;
+        }
+        int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + 2;
+        int sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub + 1L) << (exponent - 2);
+    }
+
+    /**
+     * 모양 하나의 누적 통계 (시간 단위: ms)
+     */
+    public record StatementSummary(String sql, List<String> repositoryMethods, long count,
+                                   double totalMs, double meanMs, double maxMs, double p99Ms) {
+
+        static final Comparator<StatementSummary> SLOWEST = Comparator.comparingDouble(StatementSummary::p99Ms)
+                .thenComparingDouble(StatementSummary::maxMs).reversed();
+        static final Comparator<StatementSummary> MOST_FREQUENT = Comparator.comparingLong(StatementSummary::count).reversed();
+        static final Comparator<StatementSummary> MOST_TOTAL_TIME = Comparator.comparingDouble(StatementSummary::totalMs).reversed();
+    }
+
+    private record Source(Class<?> repository, String method) {
+
+        @Override
+        public String toString() {
+            return repository.getSimpleName() + "." + method;
+        }
+    }
+
+    private static final class ShapeStatistics {
+
+        private final String shape;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        private final Set<Source> sources = ConcurrentHashMap.newKeySet();
+
+        private ShapeStatistics(String shape) {
+            this.shape = shape;
+        }
+
+        private void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            histogram.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        }
+
+        private void addSource(Class<?> repository, Method method) {
+            Source source = new Source(repository, method.getName());
+            if (!sources.contains(source)) {
+                sources.add(source);
+            }
+        }
+
+        private StatementSummary summary() {
+            long executions = count.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            double maxMs = maxNanos.get() / 1_000_000.0;
+            return new StatementSummary(shape,
+                    sources.stream().map(Source::toString).sorted().collect(Collectors.toList()),
+                    executions, totalMs, executions == 0 ? 0 : totalMs / executions, maxMs,
+                    Math.min(p99Micros() / 1_000.0, maxMs));
+        }
+
+        private long p99Micros() {
+            long[] snapshot = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = histogram.get(i);
+                total += snapshot[i];
+            }
+            long rank = (long) Math.ceil(total * 0.99);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                cumulative += snapshot[i];
+                if (cumulative >= rank && cumulative > 0) {
+                    return upperBoundMicros(i);
+                }
+            }
+            return 0;
+        }
+
+        private void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram.set(i, 0);
+            }
+            sources.clear();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.meal_mate.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 내 느린 쿼리 통계 (/actuator/slowqueries)
+ * MySQL slow query log 를 볼 수 없는 환경에서도 SQL 모양별 횟수/총 시간/최대/p99 를 확인하기 위함.
+ * - dataSource 빈(단일 풀 또는 DataSourceRoutingConfig 의 라우팅 프록시)을 TimingDataSource 로 감싼다.
+ * - 리포지토리 호출 중에 현재 메서드를 알 수 있도록 모든 리포지토리 프록시에 RepositoryMethodTracker 를 추가한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "meal-mate.sql.statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementStatisticsConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public StatementStatistics statementStatistics(
+            @Value("${meal-mate.sql.statistics.max-statements:1000}") int maxStatements) {
+        return new StatementStatistics(maxStatements);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(StatementStatistics statementStatistics) {
+        return new SlowQueryEndpoint(statementStatistics);
+    }
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 두고 통계 빈은 사용 시점에 조회
+    @Bean
+    public static BeanPostProcessor statementTimingPostProcessor(ObjectProvider<StatementStatistics> statementStatistics) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+                    repositoryFactory.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    new RepositoryMethodTracker(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof TimingDataSource)) {
+                    return new TimingDataSource(dataSource, statementStatistics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
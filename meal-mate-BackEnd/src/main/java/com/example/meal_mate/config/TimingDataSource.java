@@ -0,0 +1,133 @@
+package com.example.meal_mate.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 실행되는 모든 SQL 의 시간을 재서 StatementStatistics 에 기록하는 DataSource 래퍼
+ * Connection/Statement 를 JDK 동적 프록시로 감싸 execute* / executeBatch 호출만 측정하고 나머지는 그대로 위임한다.
+ * 실행 시점에 리포지토리 메서드 안이면 (RepositoryMethodTracker) 그 메서드도 함께 남긴다.
+ */
+public class TimingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+
+    private final StatementStatistics statistics;
+
+    public TimingDataSource(DataSource targetDataSource, StatementStatistics statistics) {
+        super(targetDataSource);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private void record(String sql, long elapsedNanos) {
+        RepositoryMethodTracker.Invocation invocation = RepositoryMethodTracker.current();
+        if (invocation == null) {
+            statistics.record(sql, null, null, elapsedNanos);
+        } else {
+            statistics.record(sql, invocation.repository(), invocation.method(), elapsedNanos);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    // 프록시 자신과의 비교/해시가 대상 객체와 어긋나지 않도록 프록시 기준으로 처리
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class
+                && (method.getName().equals("equals") || method.getName().equals("hashCode"));
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = TimingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement(sql, ...) 는 SQL 이 정해져 있고, createStatement() 는 execute(sql) 시점에 정해짐
+                String sql = PREPARE_METHODS.contains(method.getName()) ? (String) args[0] : null;
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                        new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return TimingDataSource.invoke(target, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return TimingDataSource.invoke(target, method, args);
+            } finally {
+                if (sql != null) {
+                    record(sql, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
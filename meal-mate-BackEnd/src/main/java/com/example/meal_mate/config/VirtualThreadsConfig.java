@@ -0,0 +1,55 @@
+package com.example.meal_mate.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 (Java 21 이상에서 virtual-threads 프로필로 활성화)
+ * spring.threads.virtual.enabled=true 이면 Spring Boot 가 Tomcat 요청 처리와
+ * applicationTaskExecutor(@Async, StreamingResponseBody 등 MVC 비동기 처리)를 가상 스레드로 바꾼다.
+ * 이 설정은 그 위에 동시 요청 상한(ConcurrencyLimitFilter)을 더해 Hikari 커넥션 대기열이 무한히 쌓이지 않게 한다.
+ */
+@Configuration
+@Slf4j
+public class VirtualThreadsConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${meal-mate.web.virtual-threads.max-concurrent-requests:200}") int maxConcurrentRequests,
+            @Value("${meal-mate.web.virtual-threads.acquire-timeout:1s}") Duration acquireTimeout,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeout, objectMapper));
+        // 인증(JWT 검증) 등 다른 필터보다 먼저 거절
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    // Java 17 에서는 spring.threads.virtual.enabled 가 조용히 무시되므로 실제 모드를 로그로 남김
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingMode(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Request handling runs on virtual threads (Hikari pool: {} connections)",
+                    environment.getProperty("spring.datasource.hikari.maximum-pool-size", "10"));
+        } else if (requested) {
+            log.warn("spring.threads.virtual.enabled=true requires Java 21+, running on platform threads (Java {})",
+                    Runtime.version().feature());
+        }
+    }
+}
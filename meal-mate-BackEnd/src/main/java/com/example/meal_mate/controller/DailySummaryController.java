@@ -0,0 +1,79 @@
+package com.example.meal_mate.controller;
+
+import com.example.meal_mate.dto.summary.DailySummaryResponseDto;
+import com.example.meal_mate.dto.summary.RangeStatisticsDto;
+import com.example.meal_mate.dto.summary.TrendResponseDto;
+import com.example.meal_mate.service.DailySummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/summaries")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+public class DailySummaryController {
+
+    private final DailySummaryService dailySummaryService;
+
+    /**
+     * 사용자의 기간별 일일 요약 조회 (섭취/소모/순 칼로리, 영양소)
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<DailySummaryResponseDto>> getDailySummaries(
+            @PathVariable Long userId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        List<DailySummaryResponseDto> summaries = dailySummaryService.getDailySummaries(userId, startDate, endDate);
+        return ResponseEntity.ok(summaries);
+    }
+
+    /**
+     * 임의 기간의 합계와 하루 평균 (기록이 있는 날 기준, 메모리 누적합 인덱스로 계산)
+     */
+    @GetMapping("/user/{userId}/range")
+    public ResponseEntity<RangeStatisticsDto> getRangeStatistics(
+            @PathVariable Long userId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        RangeStatisticsDto statistics = dailySummaryService.getRangeStatistics(userId, startDate, endDate);
+        return ResponseEntity.ok(statistics);
+    }
+
+    /**
+     * 기간 추이 - 하루 단위 섭취/소모/순 칼로리와 7일/30일 이동 평균 (최대 366일)
+     */
+    @GetMapping("/user/{userId}/trend")
+    public ResponseEntity<TrendResponseDto> getTrend(
+            @PathVariable Long userId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        TrendResponseDto trend = dailySummaryService.getTrend(userId, startDate, endDate);
+        return ResponseEntity.ok(trend);
+    }
+
+    /**
+     * 주간 추이 - endDate(기본 오늘) 까지 최근 7일
+     */
+    @GetMapping("/user/{userId}/trend/weekly")
+    public ResponseEntity<TrendResponseDto> getWeeklyTrend(
+            @PathVariable Long userId,
+            @RequestParam(required = false) LocalDate endDate) {
+        TrendResponseDto trend = dailySummaryService.getWeeklyTrend(userId, endDate == null ? LocalDate.now() : endDate);
+        return ResponseEntity.ok(trend);
+    }
+
+    /**
+     * 월간 추이 - endDate(기본 오늘) 까지 최근 30일
+     */
+    @GetMapping("/user/{userId}/trend/monthly")
+    public ResponseEntity<TrendResponseDto> getMonthlyTrend(
+            @PathVariable Long userId,
+            @RequestParam(required = false) LocalDate endDate) {
+        TrendResponseDto trend = dailySummaryService.getMonthlyTrend(userId, endDate == null ? LocalDate.now() : endDate);
+        return ResponseEntity.ok(trend);
+    }
+}
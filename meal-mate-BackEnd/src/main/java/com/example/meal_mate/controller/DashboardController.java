@@ -0,0 +1,29 @@
+package com.example.meal_mate.controller;
+
+import com.example.meal_mate.dto.dashboard.DailyDashboardResponseDto;
+import com.example.meal_mate.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * 하루 대시보드 (프로필, 식사/운동 목록, 섭취/소모/순 칼로리, 목표 대비 남은 칼로리) 를 한 번에 조회
+     */
+    @GetMapping("/{userId}/{date}")
+    public ResponseEntity<DailyDashboardResponseDto> getDailyDashboard(
+            @PathVariable Long userId,
+            @PathVariable LocalDate date) {
+        DailyDashboardResponseDto dashboard = dashboardService.getDailyDashboard(userId, date);
+        return ResponseEntity.ok(dashboard);
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.meal_mate.controller;
 
+import com.example.meal_mate.dto.common.CursorPageResponseDto;
+import com.example.meal_mate.dto.common.TopItemDto;
+import com.example.meal_mate.dto.meal.MealBatchCreateDto;
 import com.example.meal_mate.dto.meal.MealCreateDto;
 import com.example.meal_mate.dto.meal.MealResponseDto;
 import com.example.meal_mate.dto.meal.MealUpdateDto;
+import com.example.meal_mate.dto.meal.NutrientBreakdownResponseDto;
 import com.example.meal_mate.service.MealService;
+import com.example.meal_mate.service.TopItemsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,6 +25,7 @@ import java.util.List;
 public class MealController {
 
     private final MealService mealService;
+    private final TopItemsService topItemsService;
 
     /**
      * 새로운 식사 기록 생성
@@ -31,11 +37,22 @@ public class MealController {
     }
 
     /**
-     * 모든 식사 기록 조회
+     * 여러 식사 기록 일괄 생성 (한 트랜잭션, JDBC 배치 insert)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<MealResponseDto>> createMeals(@Valid @RequestBody MealBatchCreateDto batchCreateDto) {
+        List<MealResponseDto> mealResponses = mealService.createMeals(batchCreateDto.getMeals());
+        return ResponseEntity.status(HttpStatus.CREATED).body(mealResponses);
+    }
+
+    /**
+     * 모든 식사 기록 조회 (커서 페이지)
      */
     @GetMapping
-    public ResponseEntity<List<MealResponseDto>> getAllMeals() {
-        List<MealResponseDto> meals = mealService.getAllMeals();
+    public ResponseEntity<CursorPageResponseDto<MealResponseDto>> getAllMeals(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<MealResponseDto> meals = mealService.getAllMeals(cursor, size);
         return ResponseEntity.ok(meals);
     }
 
@@ -49,11 +66,14 @@ public class MealController {
     }
 
     /**
-     * 사용자별 식사 기록 조회
+     * 사용자별 식사 기록 조회 (커서 페이지)
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<MealResponseDto>> getMealsByUserId(@PathVariable Long userId) {
-        List<MealResponseDto> meals = mealService.getMealsByUserId(userId);
+    public ResponseEntity<CursorPageResponseDto<MealResponseDto>> getMealsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<MealResponseDto> meals = mealService.getMealsByUserId(userId, cursor, size);
         return ResponseEntity.ok(meals);
     }
 
@@ -119,4 +139,27 @@ public class MealController {
         double averageCalories = mealService.getAverageCaloriesByUserAndDateRange(userId, startDate, endDate);
         return ResponseEntity.ok(averageCalories);
     }
+
+    /**
+     * 사용자의 기간별 영양소 분석 (날짜별/식사 유형별 합계, 최대 366일)
+     */
+    @GetMapping("/user/{userId}/nutrients")
+    public ResponseEntity<NutrientBreakdownResponseDto> getNutrientBreakdown(
+            @PathVariable Long userId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        NutrientBreakdownResponseDto breakdown = mealService.getNutrientBreakdown(userId, startDate, endDate);
+        return ResponseEntity.ok(breakdown);
+    }
+
+    /**
+     * 사용자가 자주 먹은 음식 상위 목록 (limit 1~20, 기본 10)
+     */
+    @GetMapping("/user/{userId}/top-foods")
+    public ResponseEntity<List<TopItemDto>> getTopFoods(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Integer limit) {
+        List<TopItemDto> topFoods = topItemsService.getTopFoods(userId, limit);
+        return ResponseEntity.ok(topFoods);
+    }
 }
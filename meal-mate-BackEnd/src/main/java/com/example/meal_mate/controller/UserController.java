@@ -1,17 +1,27 @@
 package com.example.meal_mate.controller;
 
+import com.example.meal_mate.dto.common.CursorPageResponseDto;
+import com.example.meal_mate.dto.importer.ImportReportDto;
 import com.example.meal_mate.dto.user.UserLoginDto;
 import com.example.meal_mate.dto.user.UserRegistrationDto;
 import com.example.meal_mate.dto.user.UserResponseDto;
 import com.example.meal_mate.dto.user.UserUpdateDto;
+import com.example.meal_mate.service.DataExportService;
+import com.example.meal_mate.service.DataImportService;
 import com.example.meal_mate.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api")
@@ -20,6 +30,8 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final DataExportService dataExportService;
+    private final DataImportService dataImportService;
 
     /**
      * 사용자 회원가입
@@ -40,11 +52,13 @@ public class UserController {
     }
 
     /**
-     * 모든 사용자 조회
+     * 모든 사용자 조회 (커서 페이지)
      */
     @GetMapping("/users")
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        List<UserResponseDto> users = userService.getAllUsers();
+    public ResponseEntity<CursorPageResponseDto<UserResponseDto>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<UserResponseDto> users = userService.getAllUsers(cursor, size);
         return ResponseEntity.ok(users);
     }
 
@@ -57,6 +71,38 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    /**
+     * 사용자 전체 기록 내보내기 (format=csv|ndjson, 응답 스트리밍)
+     */
+    @GetMapping("/users/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportUserData(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        DataExportService.Format exportFormat = DataExportService.Format.from(format);
+        dataExportService.ensureUserExists(id);
+
+        StreamingResponseBody body = out -> dataExportService.export(id, exportFormat, out);
+        String filename = "meal-mate-user-" + id + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * CSV 기록 일괄 가져오기 (record_type 열이 없으면 type=meal|workout 사용)
+     */
+    @PostMapping("/users/{id}/import")
+    public ResponseEntity<ImportReportDto> importUserData(
+            @PathVariable Long id,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String type) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            ImportReportDto report = dataImportService.importCsv(id, in, type);
+            return ResponseEntity.ok(report);
+        }
+    }
+
     /**
      * 이메일로 사용자 조회
      */
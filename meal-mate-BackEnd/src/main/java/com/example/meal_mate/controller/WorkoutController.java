@@ -1,8 +1,12 @@
 package com.example.meal_mate.controller;
 
+import com.example.meal_mate.dto.common.CursorPageResponseDto;
+import com.example.meal_mate.dto.common.TopItemDto;
+import com.example.meal_mate.dto.workout.WorkoutBatchCreateDto;
 import com.example.meal_mate.dto.workout.WorkoutCreateDto;
 import com.example.meal_mate.dto.workout.WorkoutResponseDto;
 import com.example.meal_mate.dto.workout.WorkoutUpdateDto;
+import com.example.meal_mate.service.TopItemsService;
 import com.example.meal_mate.service.WorkoutService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +24,7 @@ import java.util.List;
 public class WorkoutController {
 
     private final WorkoutService workoutService;
+    private final TopItemsService topItemsService;
 
     /**
      * 새로운 운동 기록 생성
@@ -31,11 +36,22 @@ public class WorkoutController {
     }
 
     /**
-     * 모든 운동 기록 조회
+     * 여러 운동 기록 일괄 생성 (한 트랜잭션, JDBC 배치 insert)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<WorkoutResponseDto>> createWorkouts(@Valid @RequestBody WorkoutBatchCreateDto batchCreateDto) {
+        List<WorkoutResponseDto> workoutResponses = workoutService.createWorkouts(batchCreateDto.getWorkouts());
+        return ResponseEntity.status(HttpStatus.CREATED).body(workoutResponses);
+    }
+
+    /**
+     * 모든 운동 기록 조회 (커서 페이지)
      */
     @GetMapping
-    public ResponseEntity<List<WorkoutResponseDto>> getAllWorkouts() {
-        List<WorkoutResponseDto> workouts = workoutService.getAllWorkouts();
+    public ResponseEntity<CursorPageResponseDto<WorkoutResponseDto>> getAllWorkouts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<WorkoutResponseDto> workouts = workoutService.getAllWorkouts(cursor, size);
         return ResponseEntity.ok(workouts);
     }
 
@@ -49,11 +65,14 @@ public class WorkoutController {
     }
 
     /**
-     * 사용자별 운동 기록 조회
+     * 사용자별 운동 기록 조회 (커서 페이지)
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<WorkoutResponseDto>> getWorkoutsByUserId(@PathVariable Long userId) {
-        List<WorkoutResponseDto> workouts = workoutService.getWorkoutsByUserId(userId);
+    public ResponseEntity<CursorPageResponseDto<WorkoutResponseDto>> getWorkoutsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<WorkoutResponseDto> workouts = workoutService.getWorkoutsByUserId(userId, cursor, size);
         return ResponseEntity.ok(workouts);
     }
 
@@ -141,4 +160,15 @@ public class WorkoutController {
         int totalDuration = workoutService.getTotalDurationByUserAndDate(userId, date);
         return ResponseEntity.ok(totalDuration);
     }
+
+    /**
+     * 사용자가 자주 한 운동 상위 목록 (limit 1~20, 기본 10)
+     */
+    @GetMapping("/user/{userId}/top-exercises")
+    public ResponseEntity<List<TopItemDto>> getTopExercises(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Integer limit) {
+        List<TopItemDto> topExercises = topItemsService.getTopExercises(userId, limit);
+        return ResponseEntity.ok(topExercises);
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.meal_mate.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * nextCursor 를 다음 요청의 cursor 파라미터로 그대로 넘기면 이어서 조회된다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 마지막 페이지이면 null
+}
@@ -0,0 +1,7 @@
+package com.example.meal_mate.dto.common;
+
+/**
+ * 이름별 기록 수 (음식/운동 이름 GROUP BY 집계 결과 한 행)
+ */
+public record NameCountRow(String name, Long count) {
+}
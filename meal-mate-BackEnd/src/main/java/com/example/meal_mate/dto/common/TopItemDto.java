@@ -0,0 +1,18 @@
+package com.example.meal_mate.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 자주 기록한 항목 (count: 추정 횟수, 실제 횟수는 minimumCount 이상 count 이하)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopItemDto {
+
+    private String name;
+    private Long count;
+    private Long minimumCount;
+}
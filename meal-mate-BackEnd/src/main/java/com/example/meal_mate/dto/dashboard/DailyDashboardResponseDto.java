@@ -0,0 +1,32 @@
+package com.example.meal_mate.dto.dashboard;
+
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.dto.user.UserResponseDto;
+import com.example.meal_mate.dto.workout.WorkoutResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 홈 화면 하루치 (프로필 + 식사/운동 목록 + 합계 + 목표 대비 순 칼로리)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyDashboardResponseDto {
+
+    private Long userId;
+    private LocalDate date;
+    private UserResponseDto user;
+    private List<MealResponseDto> meals;
+    private List<WorkoutResponseDto> workouts;
+    private Long caloriesIn;
+    private Long caloriesBurned;
+    private Long netCalories;
+    private Integer workoutDuration;
+    private Integer dailyCalorieGoal;      // 목표가 없으면 null
+    private Long remainingCalories;        // 목표 - 순 칼로리 (목표가 없으면 null, 초과하면 음수)
+}
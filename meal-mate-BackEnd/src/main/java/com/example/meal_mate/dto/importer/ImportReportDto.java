@@ -0,0 +1,24 @@
+package com.example.meal_mate.dto.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportDto {
+
+    private Long totalRows;        // 헤더/빈 줄을 제외한 데이터 행 수
+    private Long importedMeals;
+    private Long importedWorkouts;
+    private Long failedRows;
+    private Integer committedChunks; // 커밋된 청크 수
+    private Long elapsedMillis;
+    private List<ImportRowErrorDto> errors; // 앞쪽 최대 100건
+    private Boolean errorsTruncated;
+}
@@ -0,0 +1,14 @@
+package com.example.meal_mate.dto.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorDto {
+
+    private Long line; // CSV 줄 번호 (헤더가 1번 줄)
+    private String message;
+}
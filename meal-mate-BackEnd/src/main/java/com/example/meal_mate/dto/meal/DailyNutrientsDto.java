@@ -0,0 +1,21 @@
+package com.example.meal_mate.dto.meal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// 하루 영양소 합계와 식사 유형별 합계
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyNutrientsDto {
+
+    private LocalDate date;
+    private NutrientTotalsDto total;
+    private Map<String, NutrientTotalsDto> byMealType;
+}
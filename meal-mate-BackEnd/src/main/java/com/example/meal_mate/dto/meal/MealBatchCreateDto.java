@@ -0,0 +1,16 @@
+package com.example.meal_mate.dto.meal;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MealBatchCreateDto {
+
+    @NotEmpty(message = "식사 기록 목록은 비어 있을 수 없습니다.")
+    @Size(max = 500, message = "한 번에 최대 500건까지 등록할 수 있습니다.")
+    private List<@Valid MealCreateDto> meals;
+}
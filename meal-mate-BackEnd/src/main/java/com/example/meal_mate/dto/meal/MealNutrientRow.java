@@ -0,0 +1,11 @@
+package com.example.meal_mate.dto.meal;
+
+import java.time.LocalDate;
+
+/**
+ * (날짜, 식사 유형) 별 영양소 합계 - MealRepository.getNutrientTotalsByUserIdAndDateRange 결과 한 행
+ */
+public record MealNutrientRow(LocalDate mealDate, String mealType, Long mealCount, Long calories,
+                              Double protein, Double carbs, Double fat,
+                              Double fiber, Double sugar, Double sodium) {
+}
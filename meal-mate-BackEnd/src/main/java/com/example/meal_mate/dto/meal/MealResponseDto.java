@@ -1,13 +1,17 @@
 package com.example.meal_mate.dto.meal;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Builder
 @Data
+@NoArgsConstructor
+@AllArgsConstructor // JPQL 생성자 프로젝션에서 사용 - 필드 순서 변경 시 MealRepository.MEAL_RESPONSE 도 함께 수정
 public class MealResponseDto {
     
     private Long id;
@@ -0,0 +1,25 @@
+package com.example.meal_mate.dto.meal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// 기간 영양소 분석 - 기간 합계, 식사 유형별 합계, 날짜별 합계 (기록이 있는 날만)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NutrientBreakdownResponseDto {
+
+    private Long userId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private NutrientTotalsDto total;
+    private Map<String, NutrientTotalsDto> byMealType;
+    private List<DailyNutrientsDto> days;
+}
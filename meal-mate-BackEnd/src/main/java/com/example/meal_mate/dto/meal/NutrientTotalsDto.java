@@ -0,0 +1,23 @@
+package com.example.meal_mate.dto.meal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 영양소 합계 (값이 없는 식사는 0 으로 계산)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NutrientTotalsDto {
+
+    private long mealCount;
+    private long calories;
+    private double protein; // g
+    private double carbs; // g
+    private double fat; // g
+    private double fiber; // g
+    private double sugar; // g
+    private double sodium; // mg
+}
@@ -0,0 +1,17 @@
+package com.example.meal_mate.dto.summary;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 날짜별 기록 수 (식사/운동 GROUP BY 날짜 집계 결과)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyCountDto {
+
+    private LocalDate date;
+    private Long count;
+}
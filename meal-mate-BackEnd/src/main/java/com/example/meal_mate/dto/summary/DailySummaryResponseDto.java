@@ -0,0 +1,27 @@
+package com.example.meal_mate.dto.summary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySummaryResponseDto {
+
+    private Long userId;
+    private LocalDate date;
+    private Long caloriesIn;
+    private Long caloriesBurned;
+    private Long netCalories;
+    private Double protein;
+    private Double carbs;
+    private Double fat;
+    private Integer mealCount;
+    private Integer workoutCount;
+    private Integer workoutDuration;
+}
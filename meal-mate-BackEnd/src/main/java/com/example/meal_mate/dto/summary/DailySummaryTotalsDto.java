@@ -0,0 +1,17 @@
+package com.example.meal_mate.dto.summary;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 기간 합계 (daily_summary 집계 결과)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySummaryTotalsDto {
+
+    private Long caloriesIn;
+    private Long mealCount;
+    private Long caloriesBurned;
+    private Long workoutCount;
+}
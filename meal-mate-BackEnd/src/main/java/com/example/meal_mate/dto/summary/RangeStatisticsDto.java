@@ -0,0 +1,38 @@
+package com.example.meal_mate.dto.summary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 임의 기간 합계와 하루 평균 (평균은 기록이 있는 날 기준, 기록이 없으면 null)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RangeStatisticsDto {
+
+    private Long userId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer days;
+    private Integer loggedDays;
+    private Long caloriesIn;
+    private Long caloriesBurned;
+    private Long netCalories;
+    private Double protein;
+    private Double carbs;
+    private Double fat;
+    private Long workoutDuration; // 분
+    private Integer mealCount;
+    private Integer workoutCount;
+    private Double averageCaloriesIn;
+    private Double averageCaloriesBurned;
+    private Double averageNetCalories;
+    private Double averageProtein;
+    private Double averageCarbs;
+    private Double averageFat;
+    private Double averageWorkoutDuration;
+}
@@ -0,0 +1,32 @@
+package com.example.meal_mate.dto.summary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 추이 그래프의 하루 값
+ * 기록이 없는 날은 logged=false, 칼로리 0 으로 채운다.
+ * rolling 값은 그 날까지 7일/30일 동안 기록이 있는 날만의 하루 평균이다 (기록이 없으면 null).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendPointDto {
+
+    private LocalDate date;
+    private boolean logged;
+    private Long caloriesIn;
+    private Long caloriesBurned;
+    private Long netCalories;
+    private Double rolling7CaloriesIn;
+    private Double rolling7CaloriesBurned;
+    private Double rolling7NetCalories;
+    private Double rolling30CaloriesIn;
+    private Double rolling30CaloriesBurned;
+    private Double rolling30NetCalories;
+}
@@ -0,0 +1,26 @@
+package com.example.meal_mate.dto.summary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 기간 추이 - 하루 단위 시계열과 기간 전체의 하루 평균 (기록이 있는 날 기준)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendResponseDto {
+
+    private Long userId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer loggedDays;
+    private Double averageCaloriesIn;
+    private Double averageCaloriesBurned;
+    private Double averageNetCalories;
+    private List<TrendPointDto> days;
+}
@@ -0,0 +1,18 @@
+package com.example.meal_mate.dto.workout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 월별 운동 통계 (GROUP BY 연/월 집계 결과)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyWorkoutStatsDto {
+
+    private Integer year;
+    private Integer month;
+    private Long workoutCount;
+    private Long totalDuration; // 분
+    private Long totalCaloriesBurned;
+}
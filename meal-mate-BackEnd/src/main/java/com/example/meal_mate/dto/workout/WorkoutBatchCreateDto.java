@@ -0,0 +1,20 @@
+package com.example.meal_mate.dto.workout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutBatchCreateDto {
+    
+    @NotEmpty(message = "운동 기록 목록은 비어 있을 수 없습니다")
+    @Size(max = 500, message = "한 번에 최대 500건까지 등록할 수 있습니다")
+    private List<@Valid WorkoutCreateDto> workouts;
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 
 @Data
@@ -17,6 +18,9 @@ public class WorkoutCreateDto {
     @NotBlank(message = "운동 이름은 필수입니다")
     private String name;
     
+    @Size(max = 50, message = "운동 유형은 50자 이하여야 합니다")
+    private String exerciseType; // 미입력 시 general
+    
     @NotNull(message = "운동 시간은 필수입니다")
     @Positive(message = "운동 시간은 0보다 커야 합니다")
     private Integer duration; // 분 단위
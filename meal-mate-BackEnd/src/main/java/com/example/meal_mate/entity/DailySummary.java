@@ -0,0 +1,58 @@
+package com.example.meal_mate.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일일 요약 (섭취/소모 칼로리, 영양소 합계)
+ * 식사/운동 생성·수정·삭제 시 같은 트랜잭션에서 증감분만 반영되며,
+ * 원본 데이터와 어긋나면 DailySummaryService.rebuild 로 다시 계산한다.
+ */
+@Entity
+@Table(name = "daily_summary")
+@IdClass(DailySummaryId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailySummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "summary_date")
+    private LocalDate summaryDate;
+
+    @Column(name = "calories_in", nullable = false)
+    private Long caloriesIn; // 섭취 칼로리
+
+    @Column(nullable = false)
+    private Double protein; // g
+
+    @Column(nullable = false)
+    private Double carbs; // g
+
+    @Column(nullable = false)
+    private Double fat; // g
+
+    @Column(name = "meal_count", nullable = false)
+    private Integer mealCount;
+
+    @Column(name = "calories_burned", nullable = false)
+    private Long caloriesBurned; // 소모 칼로리
+
+    @Column(name = "workout_duration", nullable = false)
+    private Integer workoutDuration; // 분
+
+    @Column(name = "workout_count", nullable = false)
+    private Integer workoutCount;
+
+    // 순 칼로리 (섭취 - 소모)
+    public long getNetCalories() {
+        return caloriesIn - caloriesBurned;
+    }
+}
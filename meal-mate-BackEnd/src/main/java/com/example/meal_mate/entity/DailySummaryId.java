@@ -0,0 +1,20 @@
+package com.example.meal_mate.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// DailySummary 복합 키 (user_id, summary_date)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailySummaryId implements Serializable {
+
+    private Long userId;
+    private LocalDate summaryDate;
+}
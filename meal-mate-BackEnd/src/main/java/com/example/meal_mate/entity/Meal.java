@@ -10,15 +10,22 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "meals")
+@Table(name = "meals", indexes = {
+        @Index(name = "idx_meals_user_meal_date", columnList = "user_id, meal_date"),
+        @Index(name = "idx_meals_user_meal_time", columnList = "user_id, meal_time")
+})
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Meal {
 
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 시퀀스를 사용
+    // (MySQL 에서는 Hibernate 가 meals_seq 테이블로 대체, allocationSize 만큼 미리 할당)
+    // IDENTITY 로 쌓인 기존 DB 는 IdSequenceSeeder 가 기동 시 시퀀스를 MAX(id) 위로 맞춤
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meal_seq_generator")
+    @SequenceGenerator(name = "meal_seq_generator", sequenceName = "meals_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "food_name", nullable = false, length = 100)
@@ -0,0 +1,50 @@
+package com.example.meal_mate.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 자주 먹은 음식 / 자주 한 운동 상위 항목 요약 (Space-Saving 카운터를 직렬화해 한 행에 저장)
+ * 식사/운동 생성·삭제 시 같은 트랜잭션에서 행을 잠그고 갱신하며, 주기적인 정확한 재집계로 오차를 없앤다.
+ * version 은 갱신마다 1 씩 늘며 0 이면 아직 원본에서 채워지지 않은 행이다.
+ */
+@Entity
+@Table(name = "top_items_sketch")
+@IdClass(TopItemsSketchId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TopItemsSketch {
+
+    public enum Kind {
+        FOOD, EXERCISE
+    }
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Kind kind;
+
+    // SpaceSavingSketch.encode 결과 (이름 100자 x 카운터 64개 이내)
+    @Column(nullable = false, length = 32768)
+    private byte[] payload;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public void update(byte[] payload) {
+        this.payload = payload;
+        this.version = version + 1;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
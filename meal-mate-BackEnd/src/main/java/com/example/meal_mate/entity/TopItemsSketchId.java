@@ -0,0 +1,19 @@
+package com.example.meal_mate.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// TopItemsSketch 복합 키 (user_id, kind)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TopItemsSketchId implements Serializable {
+
+    private Long userId;
+    private TopItemsSketch.Kind kind;
+}
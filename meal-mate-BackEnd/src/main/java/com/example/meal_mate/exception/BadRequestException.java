@@ -0,0 +1,8 @@
+package com.example.meal_mate.exception;
+
+public class BadRequestException extends RuntimeException {
+    
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
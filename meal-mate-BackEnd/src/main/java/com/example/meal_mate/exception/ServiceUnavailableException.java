@@ -0,0 +1,8 @@
+package com.example.meal_mate.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
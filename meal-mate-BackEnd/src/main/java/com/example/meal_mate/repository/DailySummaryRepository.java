@@ -0,0 +1,102 @@
+package com.example.meal_mate.repository;
+
+import com.example.meal_mate.entity.DailySummary;
+import com.example.meal_mate.entity.DailySummaryId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailySummaryRepository extends JpaRepository<DailySummary, DailySummaryId> {
+
+    // 사용자별 기간 일일 요약 조회 (날짜 오름차순)
+    List<DailySummary> findByUserIdAndSummaryDateBetweenOrderBySummaryDateAsc(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // 사용자 전체 일일 요약 (기간 통계 인덱스 빌드용)
+    List<DailySummary> findByUserIdOrderBySummaryDateAsc(Long userId);
+
+    /**
+     * 기간 추이 - 달력(재귀 CTE)에 daily_summary 를 PK (user_id, summary_date) 로 붙여 하루 한 행씩 반환
+     * 7/30일 이동 평균은 윈도 함수로 계산하며, 첫날의 30일 평균도 맞도록 달력은 시작일 29일 전(windowStart)부터 lastOffset 일 뒤까지 만든다.
+     * AVG 는 NULL(기록 없는 날)을 건너뛰므로 이동 평균은 기록이 있는 날 기준의 하루 평균이다.
+     */
+    @Query(value = "WITH RECURSIVE offsets (n) AS ("
+            + "  SELECT 0 UNION ALL SELECT n + 1 FROM offsets WHERE n < :lastOffset"
+            + "), calendar (d) AS (SELECT TIMESTAMPADD(DAY, n, CAST(:windowStart AS DATE)) FROM offsets) "
+            + "SELECT t.d AS summaryDate, t.calories_in AS caloriesIn, t.calories_burned AS caloriesBurned, "
+            + "t.in7 AS rolling7CaloriesIn, t.burned7 AS rolling7CaloriesBurned, t.net7 AS rolling7NetCalories, "
+            + "t.in30 AS rolling30CaloriesIn, t.burned30 AS rolling30CaloriesBurned, t.net30 AS rolling30NetCalories "
+            + "FROM ("
+            + "  SELECT c.d, s.calories_in, s.calories_burned, "
+            + "  CAST(AVG(s.calories_in) OVER (ORDER BY c.d ROWS BETWEEN 6 PRECEDING AND CURRENT ROW) AS DOUBLE) AS in7, "
+            + "  CAST(AVG(s.calories_burned) OVER (ORDER BY c.d ROWS BETWEEN 6 PRECEDING AND CURRENT ROW) AS DOUBLE) AS burned7, "
+            + "  CAST(AVG(s.calories_in - s.calories_burned) OVER (ORDER BY c.d ROWS BETWEEN 6 PRECEDING AND CURRENT ROW) AS DOUBLE) AS net7, "
+            + "  CAST(AVG(s.calories_in) OVER (ORDER BY c.d ROWS BETWEEN 29 PRECEDING AND CURRENT ROW) AS DOUBLE) AS in30, "
+            + "  CAST(AVG(s.calories_burned) OVER (ORDER BY c.d ROWS BETWEEN 29 PRECEDING AND CURRENT ROW) AS DOUBLE) AS burned30, "
+            + "  CAST(AVG(s.calories_in - s.calories_burned) OVER (ORDER BY c.d ROWS BETWEEN 29 PRECEDING AND CURRENT ROW) AS DOUBLE) AS net30 "
+            + "  FROM calendar c LEFT JOIN daily_summary s ON s.user_id = :userId AND s.summary_date = c.d"
+            + ") t WHERE t.d >= :startDate ORDER BY t.d",
+            nativeQuery = true)
+    List<TrendRow> findTrendByUserIdAndDateRange(@Param("userId") Long userId, @Param("windowStart") LocalDate windowStart,
+                                                 @Param("lastOffset") int lastOffset, @Param("startDate") LocalDate startDate);
+
+    // 증감분 반영 - 행이 없으면 생성, 있으면 원자적으로 더함 (동시 요청에도 갱신 손실 없음)
+    // 영향 테이블을 daily_summary 로 지정해 실행 전 영속성 컨텍스트 전체를 flush 하지 않도록 함
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_summary"))
+    @Query(value = "INSERT INTO daily_summary (user_id, summary_date, calories_in, protein, carbs, fat, meal_count, calories_burned, workout_duration, workout_count) "
+            + "VALUES (:userId, :summaryDate, :caloriesIn, :protein, :carbs, :fat, :mealCount, :caloriesBurned, :workoutDuration, :workoutCount) "
+            + "ON DUPLICATE KEY UPDATE calories_in = calories_in + :caloriesIn, protein = protein + :protein, carbs = carbs + :carbs, fat = fat + :fat, "
+            + "meal_count = meal_count + :mealCount, calories_burned = calories_burned + :caloriesBurned, "
+            + "workout_duration = workout_duration + :workoutDuration, workout_count = workout_count + :workoutCount",
+            nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId, @Param("summaryDate") LocalDate summaryDate,
+                    @Param("caloriesIn") long caloriesIn, @Param("protein") double protein,
+                    @Param("carbs") double carbs, @Param("fat") double fat, @Param("mealCount") int mealCount,
+                    @Param("caloriesBurned") long caloriesBurned, @Param("workoutDuration") int workoutDuration,
+                    @Param("workoutCount") int workoutCount);
+
+    // 삭제로 식사/운동 기록이 모두 없어진 날의 행 제거 (rebuildByUserId 는 그런 행을 만들지 않으므로 같은 결과를 유지)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_summary"))
+    @Query(value = "DELETE FROM daily_summary WHERE user_id = :userId AND summary_date = :summaryDate AND meal_count = 0 AND workout_count = 0",
+            nativeQuery = true)
+    int deleteIfEmpty(@Param("userId") Long userId, @Param("summaryDate") LocalDate summaryDate);
+
+    @Modifying
+    @Query("DELETE FROM DailySummary s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 원본 meals / workouts 에서 사용자의 일일 요약을 다시 계산해 적재
+    @Modifying
+    @Query(value = "INSERT INTO daily_summary (user_id, summary_date, calories_in, protein, carbs, fat, meal_count, calories_burned, workout_duration, workout_count) "
+            + "SELECT raw.user_id, raw.summary_date, SUM(raw.calories_in), SUM(raw.protein), SUM(raw.carbs), SUM(raw.fat), "
+            + "SUM(raw.meal_count), SUM(raw.calories_burned), SUM(raw.workout_duration), SUM(raw.workout_count) FROM ("
+            + "  SELECT m.user_id, m.meal_date AS summary_date, m.calories AS calories_in, COALESCE(m.protein, 0) AS protein, "
+            + "  COALESCE(m.carbs, 0) AS carbs, COALESCE(m.fat, 0) AS fat, 1 AS meal_count, "
+            + "  0 AS calories_burned, 0 AS workout_duration, 0 AS workout_count FROM meals m WHERE m.user_id = :userId "
+            + "  UNION ALL "
+            + "  SELECT w.user_id, w.workout_date, 0, 0, 0, 0, 0, w.calories_burned, w.duration, 1 FROM workouts w WHERE w.user_id = :userId"
+            + ") raw GROUP BY raw.user_id, raw.summary_date",
+            nativeQuery = true)
+    int rebuildByUserId(@Param("userId") Long userId);
+
+    // 추이 조회 결과 한 행 (기록이 없는 날은 칼로리가 null)
+    // Hibernate 가 네이티브 쿼리 결과로 생성자를 바로 호출하므로 DATE 열은 JDBC 타입(java.sql.Date) 그대로 받는다.
+    record TrendRow(java.sql.Date summaryDate, Long caloriesIn, Long caloriesBurned,
+                    Double rolling7CaloriesIn, Double rolling7CaloriesBurned, Double rolling7NetCalories,
+                    Double rolling30CaloriesIn, Double rolling30CaloriesBurned, Double rolling30NetCalories) {
+
+        public LocalDate date() {
+            return summaryDate.toLocalDate();
+        }
+    }
+}
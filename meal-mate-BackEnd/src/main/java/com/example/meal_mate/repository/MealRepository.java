@@ -1,19 +1,34 @@
 package com.example.meal_mate.repository;
 
+import com.example.meal_mate.dto.common.NameCountRow;
+import com.example.meal_mate.dto.meal.MealNutrientRow;
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.dto.summary.DailyCountDto;
 import com.example.meal_mate.entity.Meal;
 import com.example.meal_mate.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MealRepository extends JpaRepository<Meal, Long> {
     
+    // 목록 조회용 DTO 프로젝션 (users 조인 한 번으로 엔티티/지연 로딩 없이 응답 생성)
+    String MEAL_RESPONSE = "SELECT new com.example.meal_mate.dto.meal.MealResponseDto("
+            + "m.id, m.foodName, m.calories, m.protein, m.carbs, m.fat, m.fiber, m.sugar, m.sodium, "
+            + "m.quantity, m.unit, m.mealType, m.mealDate, m.mealTime, m.memo, m.createdAt, m.updatedAt, "
+            + "u.id, u.username) FROM Meal m JOIN m.user u";
+    
     // 사용자별 식사 기록 조회
     List<Meal> findByUser(User user);
     
@@ -29,21 +44,43 @@ public interface MealRepository extends JpaRepository<Meal, Long> {
     // 사용자별 특정 날짜의 식사 유형별 조회
     List<Meal> findByUserAndMealDateAndMealType(User user, LocalDate mealDate, String mealType);
     
+    // 사용자 ID 기준 특정 날짜의 식사 기록 조회 (User 엔티티 조회 없이)
+    @Query(MEAL_RESPONSE + " WHERE u.id = :userId AND m.mealDate = :mealDate")
+    List<MealResponseDto> findResponsesByUserIdAndMealDate(@Param("userId") Long userId, @Param("mealDate") LocalDate mealDate);
+    
+    // 사용자 전체 식사 기록을 시간순으로 스트리밍 (내보내기용, fetch size 단위로 커서에서 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(MEAL_RESPONSE + " WHERE u.id = :userId ORDER BY m.mealTime, m.id")
+    Stream<MealResponseDto> streamResponsesByUserId(@Param("userId") Long userId);
+    
+    // 사용자 ID 기준 식사 유형별 기록 + 시간순 정렬
+    @Query(MEAL_RESPONSE + " WHERE u.id = :userId AND m.mealType = :mealType ORDER BY m.mealTime DESC")
+    List<MealResponseDto> findResponsesByUserIdAndMealType(@Param("userId") Long userId, @Param("mealType") String mealType);
+    
+    // 특정 시간 범위의 전체 식사 기록 조회
+    @Query(MEAL_RESPONSE + " WHERE m.mealTime BETWEEN :start AND :end")
+    List<MealResponseDto> findResponsesByMealTimeBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
     // 특정 날짜의 총 칼로리 계산
-    @Query("SELECT COALESCE(SUM(m.calories), 0) FROM Meal m WHERE m.user = :user AND m.mealDate = :mealDate")
-    Integer getTotalCaloriesByUserAndDate(@Param("user") User user, @Param("mealDate") LocalDate mealDate);
+    @Query("SELECT COALESCE(SUM(m.calories), 0) FROM Meal m WHERE m.user.id = :userId AND m.mealDate = :mealDate")
+    Long getTotalCaloriesByUserIdAndDate(@Param("userId") Long userId, @Param("mealDate") LocalDate mealDate);
     
     // 특정 기간의 총 칼로리 계산
     @Query("SELECT COALESCE(SUM(m.calories), 0) FROM Meal m WHERE m.user = :user AND m.mealDate BETWEEN :startDate AND :endDate")
-    Integer getTotalCaloriesByUserAndDateRange(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    Long getTotalCaloriesByUserAndDateRange(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
-    // 특정 날짜의 영양소 합계 조회
-    @Query("SELECT COALESCE(SUM(m.protein), 0) as protein, COALESCE(SUM(m.carbs), 0) as carbs, COALESCE(SUM(m.fat), 0) as fat FROM Meal m WHERE m.user = :user AND m.mealDate = :mealDate")
-    Object[] getNutritionSummaryByUserAndDate(@Param("user") User user, @Param("mealDate") LocalDate mealDate);
+    // 기간의 (날짜, 식사 유형) 별 영양소 합계 - idx_meals_user_meal_date 범위를 한 번 읽어 GROUP BY
+    @Query("SELECT new com.example.meal_mate.dto.meal.MealNutrientRow(m.mealDate, m.mealType, COUNT(m), "
+            + "COALESCE(SUM(m.calories), 0), COALESCE(SUM(m.protein), 0.0), COALESCE(SUM(m.carbs), 0.0), "
+            + "COALESCE(SUM(m.fat), 0.0), COALESCE(SUM(m.fiber), 0.0), COALESCE(SUM(m.sugar), 0.0), "
+            + "COALESCE(SUM(m.sodium), 0.0)) FROM Meal m "
+            + "WHERE m.user.id = :userId AND m.mealDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY m.mealDate, m.mealType ORDER BY m.mealDate, m.mealType")
+    List<MealNutrientRow> getNutrientTotalsByUserIdAndDateRange(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
-    // 가장 많이 섭취한 음식 조회
-    @Query("SELECT m.foodName, COUNT(m) as count FROM Meal m WHERE m.user = :user GROUP BY m.foodName ORDER BY count DESC")
-    List<Object[]> getMostConsumedFoodsByUser(@Param("user") User user);
+    // 가장 많이 섭취한 음식 (정확한 집계 - 상위 항목 요약을 채우거나 재집계할 때만 사용, pageable 로 개수 제한)
+    @Query("SELECT new com.example.meal_mate.dto.common.NameCountRow(m.foodName, COUNT(m)) FROM Meal m WHERE m.user.id = :userId GROUP BY m.foodName ORDER BY COUNT(m) DESC, m.foodName")
+    List<NameCountRow> getMostConsumedFoodsByUserId(@Param("userId") Long userId, Pageable pageable);
     
     // 특정 음식명으로 검색
     List<Meal> findByUserAndFoodNameContaining(User user, String foodName);
@@ -55,8 +92,8 @@ public interface MealRepository extends JpaRepository<Meal, Long> {
     long countByUser(User user);
     
     // 날짜별 식사 횟수 조회
-    @Query("SELECT m.mealDate, COUNT(m) FROM Meal m WHERE m.user = :user GROUP BY m.mealDate ORDER BY m.mealDate DESC")
-    List<Object[]> getMealCountByDate(@Param("user") User user);
+    @Query("SELECT new com.example.meal_mate.dto.summary.DailyCountDto(m.mealDate, COUNT(m)) FROM Meal m WHERE m.user = :user GROUP BY m.mealDate ORDER BY m.mealDate DESC")
+    List<DailyCountDto> getMealCountByDate(@Param("user") User user);
 
     // 사용자별 전체 식사 기록 + 시간순 정렬
     List<Meal> findByUserOrderByMealTimeDesc(User user);
@@ -68,5 +105,23 @@ public interface MealRepository extends JpaRepository<Meal, Long> {
 
     List<Meal> findByUserAndMealTimeBetween(User user, LocalDateTime start, LocalDateTime end);
 
+    // 전체 식사 기록 커서 페이지 조회 (id 내림차순)
+    @Query(MEAL_RESPONSE + " ORDER BY m.id DESC")
+    List<MealResponseDto> findPage(Pageable pageable);
+
+    @Query(MEAL_RESPONSE + " WHERE m.id < :id ORDER BY m.id DESC")
+    List<MealResponseDto> findPageBefore(@Param("id") Long id, Pageable pageable);
+
+    // 사용자별 식사 기록 커서 페이지 조회 (mealTime, id 내림차순 / 첫 페이지)
+    @Query(MEAL_RESPONSE + " WHERE u.id = :userId ORDER BY m.mealTime DESC, m.id DESC")
+    List<MealResponseDto> findHistoryPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자별 식사 기록 커서 페이지 조회 (커서 이후, mealTime 이 없는 기록은 맨 뒤)
+    @Query(MEAL_RESPONSE + " WHERE u.id = :userId AND (m.mealTime < :mealTime OR (m.mealTime = :mealTime AND m.id < :id) OR m.mealTime IS NULL) ORDER BY m.mealTime DESC, m.id DESC")
+    List<MealResponseDto> findHistoryPageByUserIdAfter(@Param("userId") Long userId, @Param("mealTime") LocalDateTime mealTime, @Param("id") Long id, Pageable pageable);
+
+    // 사용자별 식사 기록 커서 페이지 조회 (커서가 mealTime 이 없는 구간에 있을 때)
+    @Query(MEAL_RESPONSE + " WHERE u.id = :userId AND m.mealTime IS NULL AND m.id < :id ORDER BY m.id DESC")
+    List<MealResponseDto> findHistoryPageByUserIdAfterUntimed(@Param("userId") Long userId, @Param("id") Long id, Pageable pageable);
 
 }
@@ -0,0 +1,42 @@
+package com.example.meal_mate.repository;
+
+import com.example.meal_mate.entity.TopItemsSketch;
+import com.example.meal_mate.entity.TopItemsSketchId;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TopItemsSketchRepository extends JpaRepository<TopItemsSketch, TopItemsSketchId> {
+
+    // 행이 없으면 빈 요약(version 0)으로 생성 - 동시에 처음 기록해도 키 충돌 없음
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "top_items_sketch"))
+    @Query(value = "INSERT INTO top_items_sketch (user_id, kind, payload, version) VALUES (:userId, :kind, :payload, 0) "
+            + "ON DUPLICATE KEY UPDATE version = version",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("kind") String kind, @Param("payload") byte[] payload);
+
+    // 갱신 전 행 잠금 (같은 사용자의 동시 기록은 순서대로 반영)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TopItemsSketch s WHERE s.userId = :userId AND s.kind = :kind")
+    Optional<TopItemsSketch> findForUpdate(@Param("userId") Long userId, @Param("kind") TopItemsSketch.Kind kind);
+
+    // 재집계 대상 (user_id, kind) 목록
+    @Query("SELECT new com.example.meal_mate.entity.TopItemsSketchId(s.userId, s.kind) FROM TopItemsSketch s ORDER BY s.userId, s.kind")
+    List<TopItemsSketchId> findAllIds();
+
+    @Modifying
+    @Query("DELETE FROM TopItemsSketch s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,13 +1,19 @@
 package com.example.meal_mate.repository;
 
 import com.example.meal_mate.entity.User;
+import com.example.meal_mate.exception.ResourceNotFoundException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -35,4 +41,33 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 목표 체중 설정한 사용자 조회
     @Query("SELECT u FROM User u WHERE u.targetWeight IS NOT NULL")
     List<User> findUsersWithTargetWeight();
+    
+    // 사용자 커서 페이지 조회 (id 오름차순)
+    List<User> findAllByOrderByIdAsc(Pageable pageable);
+    
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    // 전체 사용자 id (일일 요약 재계산용)
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    // 사용자 엔티티를 읽지 않고 존재 여부만 확인 (없으면 404)
+    default void ensureExistsById(Long id) {
+        if (!existsById(id)) {
+            throw new ResourceNotFoundException("User", "id", id);
+        }
+    }
+
+    // 여러 사용자를 IN 쿼리 한 번으로 조회 (하나라도 없으면 404)
+    default Map<Long, User> findAllByIdOrThrow(Collection<Long> ids) {
+        Map<Long, User> users = findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        ids.stream()
+                .filter(id -> !users.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new ResourceNotFoundException("User", "id", id);
+                });
+        return users;
+    }
 }
@@ -1,19 +1,38 @@
 package com.example.meal_mate.repository;
 
+import com.example.meal_mate.dto.common.NameCountRow;
+import com.example.meal_mate.dto.summary.DailyCountDto;
+import com.example.meal_mate.dto.workout.MonthlyWorkoutStatsDto;
+import com.example.meal_mate.dto.workout.WorkoutResponseDto;
 import com.example.meal_mate.entity.Workout;
 import com.example.meal_mate.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface WorkoutRepository extends JpaRepository<Workout, Long> {
     
+    // 목록 조회용 DTO 프로젝션 (users 조인 한 번으로 엔티티/지연 로딩 없이 응답 생성)
+    String WORKOUT_RESPONSE = "SELECT new com.example.meal_mate.dto.workout.WorkoutResponseDto("
+            + "w.id, w.exerciseName, w.duration, w.caloriesBurned, w.workoutTime, w.memo, "
+            + "u.id, u.nickname, w.createdAt, w.updatedAt) FROM Workout w JOIN w.user u";
+    
+    // 사용자 전체 운동 기록을 시간순으로 스트리밍 (내보내기용, fetch size 단위로 커서에서 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(WORKOUT_RESPONSE + " WHERE u.id = :userId ORDER BY w.workoutTime, w.id")
+    Stream<WorkoutResponseDto> streamResponsesByUserId(@Param("userId") Long userId);
+    
     // 사용자별 운동 기록 조회
     List<Workout> findByUser(User user);
     
@@ -29,25 +48,29 @@ public interface WorkoutRepository extends JpaRepository<Workout, Long> {
     // 사용자별 특정 날짜의 운동 유형별 조회
     List<Workout> findByUserAndWorkoutDateAndExerciseType(User user, LocalDate workoutDate, String exerciseType);
     
+    // 사용자 ID 기준 특정 날짜의 운동 기록 조회 (User 엔티티 조회 없이)
+    @Query(WORKOUT_RESPONSE + " WHERE u.id = :userId AND w.workoutDate = :workoutDate ORDER BY w.workoutTime DESC")
+    List<WorkoutResponseDto> findResponsesByUserIdAndWorkoutDate(@Param("userId") Long userId, @Param("workoutDate") LocalDate workoutDate);
+    
     // 특정 날짜의 총 소모 칼로리 계산
-    @Query("SELECT COALESCE(SUM(w.caloriesBurned), 0) FROM Workout w WHERE w.user = :user AND w.workoutDate = :workoutDate")
-    Integer getTotalCaloriesBurnedByUserAndDate(@Param("user") User user, @Param("workoutDate") LocalDate workoutDate);
+    @Query("SELECT COALESCE(SUM(w.caloriesBurned), 0) FROM Workout w WHERE w.user.id = :userId AND w.workoutDate = :workoutDate")
+    Long getTotalCaloriesBurnedByUserIdAndDate(@Param("userId") Long userId, @Param("workoutDate") LocalDate workoutDate);
     
     // 특정 기간의 총 소모 칼로리 계산
     @Query("SELECT COALESCE(SUM(w.caloriesBurned), 0) FROM Workout w WHERE w.user = :user AND w.workoutDate BETWEEN :startDate AND :endDate")
-    Integer getTotalCaloriesBurnedByUserAndDateRange(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    Long getTotalCaloriesBurnedByUserAndDateRange(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
     // 특정 날짜의 총 운동 시간 계산
-    @Query("SELECT COALESCE(SUM(w.duration), 0) FROM Workout w WHERE w.user = :user AND w.workoutDate = :workoutDate")
-    Integer getTotalDurationByUserAndDate(@Param("user") User user, @Param("workoutDate") LocalDate workoutDate);
+    @Query("SELECT COALESCE(SUM(w.duration), 0) FROM Workout w WHERE w.user.id = :userId AND w.workoutDate = :workoutDate")
+    Long getTotalDurationByUserIdAndDate(@Param("userId") Long userId, @Param("workoutDate") LocalDate workoutDate);
     
     // 특정 기간의 총 운동 시간 계산
     @Query("SELECT COALESCE(SUM(w.duration), 0) FROM Workout w WHERE w.user = :user AND w.workoutDate BETWEEN :startDate AND :endDate")
-    Integer getTotalDurationByUserAndDateRange(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    Long getTotalDurationByUserAndDateRange(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
-    // 가장 많이 한 운동 조회
-    @Query("SELECT w.exerciseName, COUNT(w) as count FROM Workout w WHERE w.user = :user GROUP BY w.exerciseName ORDER BY count DESC")
-    List<Object[]> getMostFrequentExercisesByUser(@Param("user") User user);
+    // 가장 많이 한 운동 (정확한 집계 - 상위 항목 요약을 채우거나 재집계할 때만 사용, pageable 로 개수 제한)
+    @Query("SELECT new com.example.meal_mate.dto.common.NameCountRow(w.exerciseName, COUNT(w)) FROM Workout w WHERE w.user.id = :userId GROUP BY w.exerciseName ORDER BY COUNT(w) DESC, w.exerciseName")
+    List<NameCountRow> getMostFrequentExercisesByUserId(@Param("userId") Long userId, Pageable pageable);
     
     // 운동 유형별 통계
     @Query("SELECT w.exerciseType, COUNT(w) as count, COALESCE(SUM(w.duration), 0) as totalDuration, COALESCE(SUM(w.caloriesBurned), 0) as totalCalories FROM Workout w WHERE w.user = :user GROUP BY w.exerciseType")
@@ -63,12 +86,12 @@ public interface WorkoutRepository extends JpaRepository<Workout, Long> {
     long countByUser(User user);
     
     // 날짜별 운동 횟수 조회
-    @Query("SELECT w.workoutDate, COUNT(w) FROM Workout w WHERE w.user = :user GROUP BY w.workoutDate ORDER BY w.workoutDate DESC")
-    List<Object[]> getWorkoutCountByDate(@Param("user") User user);
+    @Query("SELECT new com.example.meal_mate.dto.summary.DailyCountDto(w.workoutDate, COUNT(w)) FROM Workout w WHERE w.user = :user GROUP BY w.workoutDate ORDER BY w.workoutDate DESC")
+    List<DailyCountDto> getWorkoutCountByDate(@Param("user") User user);
     
     // 월별 운동 통계
-    @Query("SELECT YEAR(w.workoutDate), MONTH(w.workoutDate), COUNT(w), COALESCE(SUM(w.duration), 0), COALESCE(SUM(w.caloriesBurned), 0) FROM Workout w WHERE w.user = :user GROUP BY YEAR(w.workoutDate), MONTH(w.workoutDate) ORDER BY YEAR(w.workoutDate) DESC, MONTH(w.workoutDate) DESC")
-    List<Object[]> getMonthlyWorkoutStatsByUser(@Param("user") User user);
+    @Query("SELECT new com.example.meal_mate.dto.workout.MonthlyWorkoutStatsDto(YEAR(w.workoutDate), MONTH(w.workoutDate), COUNT(w), COALESCE(SUM(w.duration), 0), COALESCE(SUM(w.caloriesBurned), 0)) FROM Workout w WHERE w.user = :user GROUP BY YEAR(w.workoutDate), MONTH(w.workoutDate) ORDER BY YEAR(w.workoutDate) DESC, MONTH(w.workoutDate) DESC")
+    List<MonthlyWorkoutStatsDto> getMonthlyWorkoutStatsByUser(@Param("user") User user);
 
     List<Workout> findByUserOrderByWorkoutTimeDesc(User user);
     
@@ -81,4 +104,30 @@ public interface WorkoutRepository extends JpaRepository<Workout, Long> {
     // 사용자별 운동명 검색 (대소문자 구분 없이)
     List<Workout> findByUserAndExerciseNameContainingIgnoreCaseOrderByWorkoutTimeDesc(User user, String exerciseName);
 
+    @Query(WORKOUT_RESPONSE + " WHERE u.id = :userId AND LOWER(w.exerciseName) LIKE LOWER(CONCAT('%', :exerciseName, '%')) ORDER BY w.workoutTime DESC")
+    List<WorkoutResponseDto> findResponsesByUserIdAndExerciseNameContaining(@Param("userId") Long userId, @Param("exerciseName") String exerciseName);
+
+    // 특정 시간 범위의 전체 운동 기록 조회
+    @Query(WORKOUT_RESPONSE + " WHERE w.workoutTime BETWEEN :startTime AND :endTime ORDER BY w.workoutTime DESC")
+    List<WorkoutResponseDto> findResponsesByWorkoutTimeBetween(@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+
+    // 전체 운동 기록 커서 페이지 조회 (id 내림차순)
+    @Query(WORKOUT_RESPONSE + " ORDER BY w.id DESC")
+    List<WorkoutResponseDto> findPage(Pageable pageable);
+
+    @Query(WORKOUT_RESPONSE + " WHERE w.id < :id ORDER BY w.id DESC")
+    List<WorkoutResponseDto> findPageBefore(@Param("id") Long id, Pageable pageable);
+
+    // 사용자별 운동 기록 커서 페이지 조회 (workoutTime, id 내림차순 / 첫 페이지)
+    @Query(WORKOUT_RESPONSE + " WHERE u.id = :userId ORDER BY w.workoutTime DESC, w.id DESC")
+    List<WorkoutResponseDto> findHistoryPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자별 운동 기록 커서 페이지 조회 (커서 이후, workoutTime 이 없는 기록은 맨 뒤)
+    @Query(WORKOUT_RESPONSE + " WHERE u.id = :userId AND (w.workoutTime < :workoutTime OR (w.workoutTime = :workoutTime AND w.id < :id) OR w.workoutTime IS NULL) ORDER BY w.workoutTime DESC, w.id DESC")
+    List<WorkoutResponseDto> findHistoryPageByUserIdAfter(@Param("userId") Long userId, @Param("workoutTime") LocalDateTime workoutTime, @Param("id") Long id, Pageable pageable);
+
+    // 사용자별 운동 기록 커서 페이지 조회 (커서가 workoutTime 이 없는 구간에 있을 때)
+    @Query(WORKOUT_RESPONSE + " WHERE u.id = :userId AND w.workoutTime IS NULL AND w.id < :id ORDER BY w.id DESC")
+    List<WorkoutResponseDto> findHistoryPageByUserIdAfterUntimed(@Param("userId") Long userId, @Param("id") Long id, Pageable pageable);
+
 }
@@ -0,0 +1,109 @@
+package com.example.meal_mate.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 를 한 레코드씩 읽는 최소 파서 (RFC 4180)
+ * 파일 전체를 읽어 두지 않고 Reader 에서 필요한 만큼만 소비한다.
+ * 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 두 번 쓴 따옴표("")를 처리하고 맨 앞 UTF-8 BOM 은 건너뛴다.
+ */
+final class CsvReader implements Closeable {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private long line;
+    private long recordLine;
+    private boolean started;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽습니다.
+     *
+     * @return 필드 목록, 파일 끝이면 null
+     * @throws MalformedCsvException 따옴표가 닫히지 않은 채 파일이 끝난 경우
+     */
+    List<String> readRecord() throws IOException {
+        recordLine = line + 1;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedCsvException(recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    // 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터, 헤더 포함)
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = reader.read();
+            }
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    static final class MalformedCsvException extends RuntimeException {
+
+        private final long line;
+
+        MalformedCsvException(long line) {
+            super(line + "번째 줄에서 시작한 따옴표가 닫히지 않았습니다");
+            this.line = line;
+        }
+
+        long getLine() {
+            return line;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.dto.common.CursorPageResponseDto;
+import com.example.meal_mate.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이지네이션 공통 처리
+ * 커서는 마지막으로 내려준 행의 정렬 키(id 또는 시간+id)를 Base64 URL 인코딩한 문자열이다.
+ * OFFSET 을 쓰지 않으므로 몇 번째 페이지든 인덱스 범위 탐색 한 번으로 조회된다.
+ */
+final class CursorPages {
+
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+
+    private static final String NULL_TIME = "_";
+    private static final String SEPARATOR = "|";
+
+    private CursorPages() {
+    }
+
+    // 요청 크기를 허용 범위로 보정
+    static int normalizeSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    static Pageable limitOf(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    static String encodeId(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    static Long decodeId(String cursor) {
+        try {
+            return Long.parseLong(decode(cursor));
+        } catch (NumberFormatException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    static String encodeTimeAndId(LocalDateTime time, Long id) {
+        String timePart = time == null ? NULL_TIME : time.toString();
+        return encode(timePart + SEPARATOR + id);
+    }
+
+    static TimeCursor decodeTimeAndId(String cursor) {
+        String raw = decode(cursor);
+        int idx = raw.lastIndexOf(SEPARATOR);
+        if (idx < 0) {
+            throw invalid(cursor);
+        }
+        try {
+            String timePart = raw.substring(0, idx);
+            LocalDateTime time = NULL_TIME.equals(timePart) ? null : LocalDateTime.parse(timePart);
+            return new TimeCursor(time, Long.parseLong(raw.substring(idx + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    /**
+     * size + 1 건으로 조회한 결과를 잘라서 페이지 응답으로 만든다.
+     */
+    static <E, D> CursorPageResponseDto<D> toPage(List<E> rows, int size,
+                                                   Function<E, D> mapper,
+                                                   Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<D> content = pageRows.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+
+        return new CursorPageResponseDto<>(content, content.size(), hasNext, nextCursor);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static BadRequestException invalid(String cursor) {
+        return new BadRequestException("유효하지 않은 커서입니다: " + cursor);
+    }
+
+    record TimeCursor(LocalDateTime time, Long id) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 --rebuild-daily-summary 옵션이 있으면 전체 사용자의 일일 요약을 원본 데이터로 다시 계산
+ * 예) java -jar meal-mate.jar --rebuild-daily-summary
+ * 사용자 단위로 트랜잭션을 나눠 긴 락을 피한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailySummaryRebuildRunner implements ApplicationRunner {
+
+    static final String OPTION = "rebuild-daily-summary";
+
+    private final UserRepository userRepository;
+    private final DailySummaryService dailySummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        List<Long> userIds = userRepository.findAllIds();
+        log.info("Rebuilding daily summary for {} users", userIds.size());
+
+        int totalDays = 0;
+        for (Long userId : userIds) {
+            totalDays += dailySummaryService.rebuild(userId);
+        }
+        log.info("Daily summary rebuild finished: {} users, {} days", userIds.size(), totalDays);
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.config.ReadYourWritesTracker;
+import com.example.meal_mate.dto.summary.DailySummaryResponseDto;
+import com.example.meal_mate.dto.summary.DailySummaryTotalsDto;
+import com.example.meal_mate.dto.summary.RangeStatisticsDto;
+import com.example.meal_mate.dto.summary.TrendPointDto;
+import com.example.meal_mate.dto.summary.TrendResponseDto;
+import com.example.meal_mate.entity.DailySummary;
+import com.example.meal_mate.entity.Meal;
+import com.example.meal_mate.entity.Workout;
+import com.example.meal_mate.exception.BadRequestException;
+import com.example.meal_mate.repository.DailySummaryRepository;
+import com.example.meal_mate.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 일일 요약(daily_summary) 관리
+ * 식사/운동 변경 시 호출한 쪽의 트랜잭션 안에서 증감분만 upsert 하고,
+ * 기간/평균 조회는 원본 테이블 대신 이 요약 테이블(기간 합계는 그 누적합 인덱스)만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class DailySummaryService {
+
+    // 추이 조회 최대 기간 (윤년 1년)
+    static final int MAX_TREND_DAYS = 366;
+    private static final int ROLLING_WINDOW_DAYS = 30;
+
+    private final DailySummaryRepository dailySummaryRepository;
+    private final UserRepository userRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DailyTotalsCache dailyTotalsCache;
+    private final NutrientBreakdownCache nutrientBreakdownCache;
+    private final RangeStatisticsIndex rangeStatisticsIndex;
+
+    public void addMeal(Meal meal) {
+        applyMeal(meal, 1);
+    }
+
+    public void removeMeal(Meal meal) {
+        applyMeal(meal, -1);
+    }
+
+    /**
+     * 일괄 생성된 식사를 (사용자, 날짜) 단위로 묶어 날짜당 upsert 한 번으로 반영합니다.
+     */
+    public void addMeals(List<Meal> meals) {
+        Map<DailyKey, Delta> deltas = new LinkedHashMap<>();
+        for (Meal meal : meals) {
+            deltas.computeIfAbsent(new DailyKey(meal.getUser().getId(), meal.getMealDate()), key -> new Delta())
+                    .addMeal(meal, 1);
+            readYourWritesTracker.recordOwner(ReadYourWritesTracker.Resource.MEAL, meal.getId(), meal.getUser().getId());
+        }
+        deltas.forEach(this::apply);
+    }
+
+    public void addWorkout(Workout workout) {
+        applyWorkout(workout, 1);
+    }
+
+    public void removeWorkout(Workout workout) {
+        applyWorkout(workout, -1);
+    }
+
+    /**
+     * 일괄 생성된 운동을 (사용자, 날짜) 단위로 묶어 날짜당 upsert 한 번으로 반영합니다.
+     */
+    public void addWorkouts(List<Workout> workouts) {
+        Map<DailyKey, Delta> deltas = new LinkedHashMap<>();
+        for (Workout workout : workouts) {
+            deltas.computeIfAbsent(new DailyKey(workout.getUser().getId(), workout.getWorkoutDate()), key -> new Delta())
+                    .addWorkout(workout, 1);
+            readYourWritesTracker.recordOwner(ReadYourWritesTracker.Resource.WORKOUT, workout.getId(), workout.getUser().getId());
+        }
+        deltas.forEach(this::apply);
+    }
+
+    /**
+     * 사용자의 기간별 일일 요약을 조회합니다. (기록이 없는 날짜는 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public List<DailySummaryResponseDto> getDailySummaries(Long userId, LocalDate startDate, LocalDate endDate) {
+        log.info("Fetching daily summaries for user ID: {} from {} to {}", userId, startDate, endDate);
+
+        List<DailySummary> summaries = dailySummaryRepository
+                .findByUserIdAndSummaryDateBetweenOrderBySummaryDateAsc(userId, startDate, endDate);
+        if (summaries.isEmpty()) {
+            userRepository.ensureExistsById(userId);
+        }
+
+        return summaries.stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    // 기간 합계 - 사용자별 누적합 인덱스에서 O(1) 로 계산 (첫 조회 때만 daily_summary 를 읽음)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 인덱스 적중 시 트랜잭션/커넥션 없이 반환
+    public DailySummaryTotalsDto getTotals(Long userId, LocalDate startDate, LocalDate endDate) {
+        RangeStatisticsIndex.RangeTotals totals = rangeStatisticsIndex.totals(userId, startDate, endDate);
+        return new DailySummaryTotalsDto(totals.caloriesIn(), (long) totals.mealCount(),
+                totals.caloriesBurned(), (long) totals.workoutCount());
+    }
+
+    /**
+     * 임의 기간의 합계와 하루 평균 (기록이 있는 날 기준)을 조회합니다.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 인덱스 적중 시 트랜잭션/커넥션 없이 반환
+    public RangeStatisticsDto getRangeStatistics(Long userId, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("시작일이 종료일보다 늦습니다");
+        }
+        RangeStatisticsIndex.RangeTotals totals = rangeStatisticsIndex.totals(userId, startDate, endDate);
+        int loggedDays = totals.loggedDays();
+        if (loggedDays == 0) {
+            userRepository.ensureExistsById(userId);
+        }
+        long netCalories = totals.caloriesIn() - totals.caloriesBurned();
+
+        return RangeStatisticsDto.builder()
+                .userId(userId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .days(totals.days())
+                .loggedDays(loggedDays)
+                .caloriesIn(totals.caloriesIn())
+                .caloriesBurned(totals.caloriesBurned())
+                .netCalories(netCalories)
+                .protein(totals.protein())
+                .carbs(totals.carbs())
+                .fat(totals.fat())
+                .workoutDuration(totals.workoutDuration())
+                .mealCount(totals.mealCount())
+                .workoutCount(totals.workoutCount())
+                .averageCaloriesIn(perDay(totals.caloriesIn(), loggedDays))
+                .averageCaloriesBurned(perDay(totals.caloriesBurned(), loggedDays))
+                .averageNetCalories(perDay(netCalories, loggedDays))
+                .averageProtein(perDay(totals.protein(), loggedDays))
+                .averageCarbs(perDay(totals.carbs(), loggedDays))
+                .averageFat(perDay(totals.fat(), loggedDays))
+                .averageWorkoutDuration(perDay(totals.workoutDuration(), loggedDays))
+                .build();
+    }
+
+    /**
+     * endDate 까지 최근 7일 추이
+     */
+    @Transactional(readOnly = true)
+    public TrendResponseDto getWeeklyTrend(Long userId, LocalDate endDate) {
+        return getTrend(userId, endDate.minusDays(6), endDate);
+    }
+
+    /**
+     * endDate 까지 최근 30일 추이
+     */
+    @Transactional(readOnly = true)
+    public TrendResponseDto getMonthlyTrend(Long userId, LocalDate endDate) {
+        return getTrend(userId, endDate.minusDays(ROLLING_WINDOW_DAYS - 1), endDate);
+    }
+
+    /**
+     * 기간의 하루 단위 섭취/소모/순 칼로리와 7일/30일 이동 평균을 조회합니다.
+     * 기록이 없는 날도 포함하며, 1년 기간도 daily_summary 인덱스 범위를 읽는 쿼리 한 번으로 끝납니다.
+     * 평균은 모두 기록이 있는 날 기준의 하루 평균입니다 (식사 건당 평균이 아님).
+     */
+    @Transactional(readOnly = true)
+    public TrendResponseDto getTrend(Long userId, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("시작일이 종료일보다 늦습니다");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_TREND_DAYS) {
+            throw new BadRequestException("추이 조회 기간은 최대 " + MAX_TREND_DAYS + "일입니다");
+        }
+        log.info("Fetching trend for user ID: {} from {} to {}", userId, startDate, endDate);
+
+        LocalDate windowStart = startDate.minusDays(ROLLING_WINDOW_DAYS - 1);
+        List<DailySummaryRepository.TrendRow> rows = dailySummaryRepository.findTrendByUserIdAndDateRange(
+                userId, windowStart, (int) ChronoUnit.DAYS.between(windowStart, endDate), startDate);
+
+        List<TrendPointDto> days = new ArrayList<>(rows.size());
+        int loggedDays = 0;
+        long totalIn = 0;
+        long totalBurned = 0;
+        for (DailySummaryRepository.TrendRow row : rows) {
+            boolean logged = row.caloriesIn() != null;
+            long caloriesIn = logged ? row.caloriesIn() : 0;
+            long caloriesBurned = logged ? row.caloriesBurned() : 0;
+            if (logged) {
+                loggedDays++;
+                totalIn += caloriesIn;
+                totalBurned += caloriesBurned;
+            }
+            days.add(TrendPointDto.builder()
+                    .date(row.date())
+                    .logged(logged)
+                    .caloriesIn(caloriesIn)
+                    .caloriesBurned(caloriesBurned)
+                    .netCalories(caloriesIn - caloriesBurned)
+                    .rolling7CaloriesIn(row.rolling7CaloriesIn())
+                    .rolling7CaloriesBurned(row.rolling7CaloriesBurned())
+                    .rolling7NetCalories(row.rolling7NetCalories())
+                    .rolling30CaloriesIn(row.rolling30CaloriesIn())
+                    .rolling30CaloriesBurned(row.rolling30CaloriesBurned())
+                    .rolling30NetCalories(row.rolling30NetCalories())
+                    .build());
+        }
+        if (loggedDays == 0) {
+            userRepository.ensureExistsById(userId);
+        }
+
+        return TrendResponseDto.builder()
+                .userId(userId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .loggedDays(loggedDays)
+                .averageCaloriesIn(loggedDays == 0 ? null : (double) totalIn / loggedDays)
+                .averageCaloriesBurned(loggedDays == 0 ? null : (double) totalBurned / loggedDays)
+                .averageNetCalories(loggedDays == 0 ? null : (double) (totalIn - totalBurned) / loggedDays)
+                .days(days)
+                .build();
+    }
+
+    /**
+     * 사용자의 일일 요약을 원본 meals / workouts 기준으로 다시 계산합니다.
+     * 요약 행을 지우고 INSERT ... SELECT 한 번으로 재적재하므로 증감 반영 중 생긴 오차가 모두 사라집니다.
+     *
+     * @return 재적재된 일자 수
+     */
+    public int rebuild(Long userId) {
+        userRepository.ensureExistsById(userId);
+
+        int removed = dailySummaryRepository.deleteByUserId(userId);
+        int rebuilt = dailySummaryRepository.rebuildByUserId(userId);
+        rangeStatisticsIndex.evict(userId);
+        log.info("Daily summary rebuilt for user ID: {} ({} rows removed, {} rows rebuilt)", userId, removed, rebuilt);
+        return rebuilt;
+    }
+
+    public void deleteByUserId(Long userId) {
+        dailySummaryRepository.deleteByUserId(userId);
+        rangeStatisticsIndex.evict(userId);
+    }
+
+    private void applyMeal(Meal meal, int sign) {
+        Delta delta = new Delta();
+        delta.addMeal(meal, sign);
+        readYourWritesTracker.recordOwner(ReadYourWritesTracker.Resource.MEAL, meal.getId(), meal.getUser().getId());
+        apply(new DailyKey(meal.getUser().getId(), meal.getMealDate()), delta);
+    }
+
+    private void applyWorkout(Workout workout, int sign) {
+        Delta delta = new Delta();
+        delta.addWorkout(workout, sign);
+        readYourWritesTracker.recordOwner(ReadYourWritesTracker.Resource.WORKOUT, workout.getId(), workout.getUser().getId());
+        apply(new DailyKey(workout.getUser().getId(), workout.getWorkoutDate()), delta);
+    }
+
+    // 식사/운동 변경은 모두 이 요약 갱신을 거치므로 read-your-writes 기록과 합계/영양소 캐시 무효화도 여기서 함께 처리
+    private void apply(DailyKey key, Delta delta) {
+        readYourWritesTracker.recordWrite(key.userId());
+        if (delta.mealCount != 0) {
+            dailyTotalsCache.evictMeals(key.userId(), key.date());
+            nutrientBreakdownCache.evict(key.userId(), key.date());
+        }
+        if (delta.workoutCount != 0) {
+            dailyTotalsCache.evictWorkouts(key.userId(), key.date());
+        }
+        dailySummaryRepository.applyDelta(key.userId(), key.date(),
+                delta.caloriesIn, delta.protein, delta.carbs, delta.fat, delta.mealCount,
+                delta.caloriesBurned, delta.workoutDuration, delta.workoutCount);
+        if (delta.mealCount < 0 || delta.workoutCount < 0) {
+            dailySummaryRepository.deleteIfEmpty(key.userId(), key.date());
+        }
+        rangeStatisticsIndex.record(key.userId(), key.date(),
+                delta.caloriesIn, delta.protein, delta.carbs, delta.fat, delta.mealCount,
+                delta.caloriesBurned, delta.workoutDuration, delta.workoutCount);
+    }
+
+    private static Double perDay(double total, int loggedDays) {
+        return loggedDays == 0 ? null : total / loggedDays;
+    }
+
+    private DailySummaryResponseDto convertToResponseDto(DailySummary summary) {
+        return DailySummaryResponseDto.builder()
+                .userId(summary.getUserId())
+                .date(summary.getSummaryDate())
+                .caloriesIn(summary.getCaloriesIn())
+                .caloriesBurned(summary.getCaloriesBurned())
+                .netCalories(summary.getNetCalories())
+                .protein(summary.getProtein())
+                .carbs(summary.getCarbs())
+                .fat(summary.getFat())
+                .mealCount(summary.getMealCount())
+                .workoutCount(summary.getWorkoutCount())
+                .workoutDuration(summary.getWorkoutDuration())
+                .build();
+    }
+
+    private record DailyKey(Long userId, LocalDate date) {
+    }
+
+    // 한 (사용자, 날짜) 에 반영할 증감분
+    private static final class Delta {
+        private long caloriesIn;
+        private double protein;
+        private double carbs;
+        private double fat;
+        private int mealCount;
+        private long caloriesBurned;
+        private int workoutDuration;
+        private int workoutCount;
+
+        private void addMeal(Meal meal, int sign) {
+            caloriesIn += sign * (long) valueOf(meal.getCalories());
+            protein += sign * valueOf(meal.getProtein());
+            carbs += sign * valueOf(meal.getCarbs());
+            fat += sign * valueOf(meal.getFat());
+            mealCount += sign;
+        }
+
+        private void addWorkout(Workout workout, int sign) {
+            caloriesBurned += sign * (long) valueOf(workout.getCaloriesBurned());
+            workoutDuration += sign * valueOf(workout.getDuration());
+            workoutCount += sign;
+        }
+
+        private static int valueOf(Integer value) {
+            return value == null ? 0 : value;
+        }
+
+        private static double valueOf(Double value) {
+            return value == null ? 0.0 : value;
+        }
+    }
+}
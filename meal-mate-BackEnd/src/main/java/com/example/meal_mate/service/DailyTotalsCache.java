@@ -0,0 +1,82 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.config.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 일일 합계 캐시 ((userId, date, metric) 단위)
+ * 대시보드가 계속 조회하는 일일 칼로리/운동 시간 합계를 메모리에 두고,
+ * 해당 사용자의 그 날짜 기록이 바뀔 때만 커밋 직후 정확히 그 키를 무효화한다.
+ * 크기(maximum-size)와 TTL(expire-after-write)로 상한을 두며 적중률/축출 수는 Micrometer 로 노출한다.
+ */
+@Component
+public class DailyTotalsCache {
+
+    static final String CACHE_NAME = "dailyTotals";
+
+    public enum Metric {
+        MEAL_CALORIES, WORKOUT_CALORIES, WORKOUT_DURATION
+    }
+
+    private record Key(Long userId, LocalDate date, Metric metric) {
+    }
+
+    private final Cache<Key, Number> cache;
+
+    public DailyTotalsCache(@Value("${meal-mate.cache.daily-totals.maximum-size:10000}") long maximumSize,
+                            @Value("${meal-mate.cache.daily-totals.expire-after-write:10m}") Duration expireAfterWrite,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size ... + 적중률
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+            Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                    .tag("cache", CACHE_NAME)
+                    .description("Hit ratio of the daily totals cache")
+                    .register(registry);
+        });
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 loader 로 계산해 저장합니다.
+     * 같은 키를 동시에 조회하면 loader 는 한 번만 실행되며, loader 의 예외(404 등)는 그대로 전파되고 저장되지 않습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Number> T get(Long userId, LocalDate date, Metric metric, Supplier<T> loader) {
+        return (T) cache.get(new Key(userId, date, metric), key -> loader.get());
+    }
+
+    // 식사 기록 변경 시 (userId, date) 의 섭취 칼로리만 무효화
+    public void evictMeals(Long userId, LocalDate date) {
+        AfterCommit.run(() -> cache.invalidate(new Key(userId, date, Metric.MEAL_CALORIES)));
+    }
+
+    // 운동 기록 변경 시 (userId, date) 의 소모 칼로리/운동 시간만 무효화
+    public void evictWorkouts(Long userId, LocalDate date) {
+        AfterCommit.run(() -> {
+            cache.invalidate(new Key(userId, date, Metric.WORKOUT_CALORIES));
+            cache.invalidate(new Key(userId, date, Metric.WORKOUT_DURATION));
+        });
+    }
+
+    // 사용자 삭제 시 해당 사용자 항목 전체 무효화
+    public void evictUser(Long userId) {
+        AfterCommit.run(() -> cache.asMap().keySet().removeIf(key -> key.userId().equals(userId)));
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.config.ReadYourWritesTracker;
+import com.example.meal_mate.dto.dashboard.DailyDashboardResponseDto;
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.dto.user.UserResponseDto;
+import com.example.meal_mate.dto.workout.WorkoutResponseDto;
+import com.example.meal_mate.exception.ServiceUnavailableException;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.WorkoutRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 홈 화면 하루 대시보드
+ * 프로필 / 식사 목록 / 운동 목록을 크기가 고정된 실행기에서 동시에 조회하므로 응답 시간은 합이 아니라 가장 느린 조회에 가깝다.
+ * 합계(섭취/소모 칼로리, 운동 시간)는 조회한 목록에서 바로 계산해 별도 집계 쿼리를 보내지 않는다.
+ *
+ * 요청 스레드는 트랜잭션(커넥션)을 잡지 않고 기다리기만 하며, 각 조회가 자기 readOnly 트랜잭션을 연다.
+ * 실행기 큐가 가득 차거나 timeout 안에 끝나지 않으면 503 으로 응답한다.
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    static final String METRIC_PREFIX = "dashboard.executor";
+
+    private final UserService userService;
+    private final MealRepository mealRepository;
+    private final WorkoutRepository workoutRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Counter rejected;
+
+    public DashboardService(UserService userService,
+                            MealRepository mealRepository,
+                            WorkoutRepository workoutRepository,
+                            ReadYourWritesTracker readYourWritesTracker,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${meal-mate.dashboard.threads:8}") int threads,
+                            @Value("${meal-mate.dashboard.queue-capacity:256}") int queueCapacity,
+                            @Value("${meal-mate.dashboard.timeout:2s}") Duration timeout,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.userService = userService;
+        this.mealRepository = mealRepository;
+        this.workoutRepository = workoutRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.timeout = timeout;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                    .description("Dashboard sub-queries rejected because the queue was full").register(registry);
+            Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                    .description("Dashboard sub-queries waiting for a worker").register(registry);
+            Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                    .description("Dashboard workers currently busy").register(registry);
+        } else {
+            this.rejected = null;
+        }
+        log.info("Dashboard executor: {} threads, queue capacity {}", threads, queueCapacity);
+    }
+
+    public DailyDashboardResponseDto getDailyDashboard(Long userId, LocalDate date) {
+        log.info("Fetching dashboard for user ID: {} on date: {}", userId, date);
+
+        // 사용자 존재 확인(404)은 프로필 조회가 맡음 - 목록이 비어도 따로 확인하지 않음
+        CompletableFuture<UserResponseDto> user = submit(userId, () -> userService.getUserById(userId));
+        CompletableFuture<List<MealResponseDto>> meals = submit(userId, () -> readOnlyTransaction.execute(
+                status -> mealRepository.findResponsesByUserIdAndMealDate(userId, date)), user);
+        CompletableFuture<List<WorkoutResponseDto>> workouts = submit(userId, () -> readOnlyTransaction.execute(
+                status -> workoutRepository.findResponsesByUserIdAndWorkoutDate(userId, date)), user, meals);
+
+        await(CompletableFuture.allOf(user, meals, workouts), user, meals, workouts);
+
+        return toDashboard(userId, date, user.join(), meals.join(), workouts.join());
+    }
+
+    private DailyDashboardResponseDto toDashboard(Long userId, LocalDate date, UserResponseDto user,
+                                                  List<MealResponseDto> meals, List<WorkoutResponseDto> workouts) {
+        long caloriesIn = meals.stream()
+                .map(MealResponseDto::getCalories).filter(Objects::nonNull).mapToLong(Integer::longValue).sum();
+        long caloriesBurned = workouts.stream()
+                .map(WorkoutResponseDto::getCaloriesBurned).filter(Objects::nonNull).mapToLong(Integer::longValue).sum();
+        int workoutDuration = workouts.stream()
+                .map(WorkoutResponseDto::getDuration).filter(Objects::nonNull).mapToInt(Integer::intValue).sum();
+        long netCalories = caloriesIn - caloriesBurned;
+        Integer goal = user.getDailyCalorieGoal();
+
+        return DailyDashboardResponseDto.builder()
+                .userId(userId)
+                .date(date)
+                .user(user)
+                .meals(meals)
+                .workouts(workouts)
+                .caloriesIn(caloriesIn)
+                .caloriesBurned(caloriesBurned)
+                .netCalories(netCalories)
+                .workoutDuration(workoutDuration)
+                .dailyCalorieGoal(goal)
+                .remainingCalories(goal == null ? null : goal - netCalories)
+                .build();
+    }
+
+    // 작업 스레드에서도 요청과 같은 read-your-writes 판단을 하도록 사용자 ID 를 넘겨줌
+    // 거절되면 앞서 넣은 조회(submitted)를 취소 - 응답은 503 인데 큐에 남은 조회가 커넥션을 잡지 않도록
+    private <T> CompletableFuture<T> submit(Long userId, Supplier<T> query, CompletableFuture<?>... submitted) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                readYourWritesTracker.setCurrentUser(userId);
+                try {
+                    return query.get();
+                } finally {
+                    readYourWritesTracker.clearCurrentUser();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            cancel(submitted);
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new ServiceUnavailableException("대시보드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    private void await(CompletableFuture<Void> all, CompletableFuture<?>... parts) {
+        try {
+            all.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(parts);
+            throw new ServiceUnavailableException("대시보드 조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요");
+        } catch (InterruptedException e) {
+            cancel(parts);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("대시보드 조회가 중단되었습니다");
+        } catch (ExecutionException e) {
+            cancel(parts);
+            // 조회 중 발생한 예외 (ResourceNotFoundException -> 404 등) 를 그대로 전달
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("대시보드 조회에 실패했습니다", cause);
+        }
+    }
+
+    private static void cancel(CompletableFuture<?>... parts) {
+        for (CompletableFuture<?> part : parts) {
+            part.cancel(true);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
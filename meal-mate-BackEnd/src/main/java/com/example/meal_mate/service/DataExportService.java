@@ -0,0 +1,174 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.dto.workout.WorkoutResponseDto;
+import com.example.meal_mate.exception.BadRequestException;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.UserRepository;
+import com.example.meal_mate.repository.WorkoutRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 전체 기록(식사 + 운동) 내보내기
+ * 기록을 List 로 모으지 않고 DB 커서에서 fetch size 단위로 읽어 바로 응답 스트림에 쓴다.
+ * 조회 결과는 DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않으므로 기록이 몇 년 치든 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class DataExportService {
+
+    private static final String CSV_HEADER = "record_type,id,date,time,name,meal_type,calories,protein,carbs,fat,"
+            + "quantity,unit,duration,calories_burned,memo";
+
+    private final MealRepository mealRepository;
+    private final WorkoutRepository workoutRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("지원하지 않는 내보내기 형식입니다: " + value + " (csv, ndjson)");
+            }
+        }
+    }
+
+    // 스트리밍 시작 전에 호출 (응답 헤더가 나가기 전에 404 를 돌려주기 위함)
+    public void ensureUserExists(Long userId) {
+        userRepository.ensureExistsById(userId);
+    }
+
+    /**
+     * 사용자의 식사 기록, 운동 기록을 차례로 out 에 씁니다.
+     * 스트림은 트랜잭션 안에서만 열려 있으므로 응답 스레드에서 이 메서드를 직접 호출해야 합니다.
+     */
+    public void export(Long userId, Format format, OutputStream out) throws IOException {
+        log.info("Exporting data for user ID: {} as {}", userId, format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rows = format == Format.CSV ? writeCsv(userId, writer) : writeNdjson(userId, writer);
+        writer.flush();
+
+        log.info("Exported {} rows for user ID: {}", rows, userId);
+    }
+
+    private long writeCsv(Long userId, Writer writer) throws IOException {
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write('\uFEFF');
+        writeLine(writer, CSV_HEADER);
+
+        long rows = 0;
+        try (Stream<MealResponseDto> meals = mealRepository.streamResponsesByUserId(userId)) {
+            Iterator<MealResponseDto> iterator = meals.iterator();
+            while (iterator.hasNext()) {
+                MealResponseDto meal = iterator.next();
+                writeLine(writer, csvRow("meal", meal.getId(), meal.getMealDate(), meal.getMealTime(),
+                        meal.getFoodName(), meal.getMealType(), meal.getCalories(), meal.getProtein(), meal.getCarbs(),
+                        meal.getFat(), meal.getQuantity(), meal.getUnit(), null, null, meal.getMemo()));
+                rows++;
+            }
+        }
+        try (Stream<WorkoutResponseDto> workouts = workoutRepository.streamResponsesByUserId(userId)) {
+            Iterator<WorkoutResponseDto> iterator = workouts.iterator();
+            while (iterator.hasNext()) {
+                WorkoutResponseDto workout = iterator.next();
+                LocalDateTime workoutTime = workout.getWorkoutTime();
+                writeLine(writer, csvRow("workout", workout.getId(), workoutTime == null ? null : workoutTime.toLocalDate(),
+                        workoutTime, workout.getName(), null, null, null, null,
+                        null, null, null, workout.getDuration(), workout.getCaloriesBurned(), workout.getNotes()));
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private long writeNdjson(Long userId, Writer writer) throws IOException {
+        long rows = 0;
+        try (Stream<MealResponseDto> meals = mealRepository.streamResponsesByUserId(userId)) {
+            Iterator<MealResponseDto> iterator = meals.iterator();
+            while (iterator.hasNext()) {
+                writeLine(writer, objectMapper.writeValueAsString(new ExportRecord("meal", iterator.next())));
+                rows++;
+            }
+        }
+        try (Stream<WorkoutResponseDto> workouts = workoutRepository.streamResponsesByUserId(userId)) {
+            Iterator<WorkoutResponseDto> iterator = workouts.iterator();
+            while (iterator.hasNext()) {
+                writeLine(writer, objectMapper.writeValueAsString(new ExportRecord("workout", iterator.next())));
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static void writeLine(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+
+    private static String csvRow(Object... values) {
+        StringBuilder row = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+            row.append(csvCell(values[i]));
+        }
+        return row.toString();
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 들어간 값은 따옴표로 감싸고 내부 따옴표는 두 번 씀
+    private static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    // NDJSON 한 줄 (type: meal | workout)
+    private record ExportRecord(String type, Object data) {
+    }
+}
@@ -0,0 +1,338 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.dto.importer.ImportReportDto;
+import com.example.meal_mate.dto.importer.ImportRowErrorDto;
+import com.example.meal_mate.dto.meal.MealCreateDto;
+import com.example.meal_mate.dto.workout.WorkoutCreateDto;
+import com.example.meal_mate.exception.BadRequestException;
+import com.example.meal_mate.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * CSV 일괄 가져오기 (식사 + 운동)
+ * 업로드를 한 행씩 읽어 MealCreateDto / WorkoutCreateDto 규칙으로 검증하고,
+ * CHUNK_SIZE 건이 모일 때마다 MealService.createMeals / WorkoutService.createWorkouts 로 저장한다.
+ * 청크마다 별도 트랜잭션으로 커밋되므로 파일 전체나 전체 엔티티를 메모리에 들고 있지 않는다.
+ *
+ * 헤더 이름으로 열을 찾으며 내보내기(DataExportService) CSV 를 그대로 다시 읽을 수 있다.
+ * record_type 열(meal | workout)이 없으면 요청의 type 을 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DataImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String DEFAULT_EXERCISE_TYPE = "general";
+
+    private final MealService mealService;
+    private final WorkoutService workoutService;
+    private final UserRepository userRepository;
+    private final Validator validator;
+
+    /**
+     * 트랜잭션 없이 실행합니다. (청크 저장이 각자 커밋되어야 하므로 클래스에 @Transactional 을 두지 않음)
+     *
+     * @param userId 기록을 추가할 사용자 ID
+     * @param in CSV 입력 (UTF-8)
+     * @param defaultType record_type 열이 없을 때 사용할 유형 (meal | workout, null 가능)
+     * @return 처리 결과와 실패한 행 목록
+     */
+    public ImportReportDto importCsv(Long userId, InputStream in, String defaultType) throws IOException {
+        userRepository.ensureExistsById(userId);
+        RecordType fallbackType = defaultType == null ? null : RecordType.from(defaultType);
+
+        long startedAt = System.currentTimeMillis();
+        ImportProgress progress = new ImportProgress(userId);
+        Chunk<MealCreateDto> meals = new Chunk<>(mealService::createMeals);
+        Chunk<WorkoutCreateDto> workouts = new Chunk<>(workoutService::createWorkouts);
+
+        try (CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new BadRequestException("빈 CSV 파일입니다");
+            }
+            Map<String, Integer> columns = indexColumns(header);
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                long line = reader.getRecordLine();
+                progress.totalRows++;
+                try {
+                    Row row = new Row(columns, record);
+                    if (row.type(fallbackType) == RecordType.MEAL) {
+                        meals.add(line, validate(toMealCreateDto(userId, row)));
+                        if (meals.isFull()) {
+                            progress.importedMeals += meals.flush(progress);
+                        }
+                    } else {
+                        workouts.add(line, validate(toWorkoutCreateDto(userId, row)));
+                        if (workouts.isFull()) {
+                            progress.importedWorkouts += workouts.flush(progress);
+                        }
+                    }
+                } catch (InvalidRowException e) {
+                    progress.fail(line, e.getMessage());
+                }
+            }
+        } catch (CsvReader.MalformedCsvException e) {
+            // 닫히지 않은 따옴표가 파일 끝까지 이어진 경우 - 그 앞까지만 반영
+            progress.totalRows++;
+            progress.fail(e.getLine(), e.getMessage());
+        }
+        progress.importedMeals += meals.flush(progress);
+        progress.importedWorkouts += workouts.flush(progress);
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("CSV import finished for user ID: {} ({} rows, {} meals, {} workouts, {} failed, {} ms)",
+                userId, progress.totalRows, progress.importedMeals, progress.importedWorkouts, progress.failedRows, elapsed);
+
+        return ImportReportDto.builder()
+                .totalRows(progress.totalRows)
+                .importedMeals(progress.importedMeals)
+                .importedWorkouts(progress.importedWorkouts)
+                .failedRows(progress.failedRows)
+                .committedChunks(progress.committedChunks)
+                .elapsedMillis(elapsed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failedRows > progress.errors.size())
+                .build();
+    }
+
+    private MealCreateDto toMealCreateDto(Long userId, Row row) {
+        LocalDateTime time = row.dateTime("time");
+        LocalDate date = row.date("date");
+
+        MealCreateDto dto = new MealCreateDto();
+        dto.setUserId(userId);
+        dto.setFoodName(row.text("name"));
+        dto.setCalories(row.integer("calories"));
+        dto.setProtein(row.decimal("protein"));
+        dto.setCarbs(row.decimal("carbs"));
+        dto.setFat(row.decimal("fat"));
+        dto.setFiber(row.decimal("fiber"));
+        dto.setSugar(row.decimal("sugar"));
+        dto.setSodium(row.decimal("sodium"));
+        // 다른 앱에서 옮겨 오는 파일은 섭취량이 없는 경우가 많아 1 로 간주
+        Integer quantity = row.integer("quantity");
+        dto.setQuantity(quantity != null ? quantity : 1);
+        dto.setUnit(row.text("unit"));
+        dto.setMealType(row.text("meal_type"));
+        dto.setMealDate(date != null ? date : time != null ? time.toLocalDate() : null);
+        dto.setMealTime(time);
+        dto.setMemo(row.text("memo"));
+        return dto;
+    }
+
+    private WorkoutCreateDto toWorkoutCreateDto(Long userId, Row row) {
+        LocalDateTime time = row.dateTime("time");
+        LocalDate date = row.date("date");
+        String exerciseType = row.text("exercise_type");
+
+        return new WorkoutCreateDto(
+                row.text("name"),
+                exerciseType != null ? exerciseType : DEFAULT_EXERCISE_TYPE,
+                row.integer("duration"),
+                row.integer("calories_burned"),
+                time != null ? time : date != null ? date.atStartOfDay() : null,
+                row.text("memo"),
+                userId
+        );
+    }
+
+    private <D> D validate(D dto) {
+        Set<ConstraintViolation<D>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new InvalidRowException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return dto;
+    }
+
+    private static Map<String, Integer> indexColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("name")) {
+            throw new BadRequestException("CSV 헤더에 name 열이 필요합니다");
+        }
+        return columns;
+    }
+
+    private enum RecordType {
+        MEAL, WORKOUT;
+
+        static RecordType from(String value) {
+            try {
+                return RecordType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("지원하지 않는 기록 유형입니다: " + value + " (meal, workout)");
+            }
+        }
+    }
+
+    // 한 행을 헤더 이름으로 읽기 (형식 오류는 InvalidRowException)
+    private record Row(Map<String, Integer> columns, List<String> values) {
+
+        RecordType type(RecordType fallback) {
+            String value = text("record_type");
+            if (value == null) {
+                if (fallback == null) {
+                    throw new InvalidRowException("record_type 열이 비어 있고 type 파라미터도 없습니다");
+                }
+                return fallback;
+            }
+            try {
+                return RecordType.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRowException("record_type: meal 또는 workout 이어야 합니다");
+            }
+        }
+
+        String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        Integer integer(String column) {
+            String value = text(column);
+            try {
+                return value == null ? null : Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new InvalidRowException(column + ": 정수가 아닙니다 (" + value + ")");
+            }
+        }
+
+        Double decimal(String column) {
+            String value = text(column);
+            try {
+                return value == null ? null : Double.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new InvalidRowException(column + ": 숫자가 아닙니다 (" + value + ")");
+            }
+        }
+
+        LocalDate date(String column) {
+            String value = text(column);
+            try {
+                return value == null ? null : LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new InvalidRowException(column + ": 날짜 형식은 yyyy-MM-dd 입니다 (" + value + ")");
+            }
+        }
+
+        // 2025-07-09T12:30 / 2025-07-09 12:30 모두 허용
+        LocalDateTime dateTime(String column) {
+            String value = text(column);
+            try {
+                return value == null ? null : LocalDateTime.parse(value.replace(' ', 'T'));
+            } catch (DateTimeParseException e) {
+                throw new InvalidRowException(column + ": 시간 형식은 yyyy-MM-dd HH:mm 입니다 (" + value + ")");
+            }
+        }
+    }
+
+    // 저장 대기 중인 행 (최대 CHUNK_SIZE 건)
+    private static final class Chunk<D> {
+
+        private final Function<List<D>, List<?>> saver;
+        private final List<D> dtos = new ArrayList<>(CHUNK_SIZE);
+        private final List<Long> lines = new ArrayList<>(CHUNK_SIZE);
+
+        private Chunk(Function<List<D>, List<?>> saver) {
+            this.saver = saver;
+        }
+
+        void add(long line, D dto) {
+            dtos.add(dto);
+            lines.add(line);
+        }
+
+        boolean isFull() {
+            return dtos.size() >= CHUNK_SIZE;
+        }
+
+        // 한 트랜잭션으로 저장하고 저장 건수를 반환 (실패하면 청크 전체를 실패로 기록)
+        long flush(ImportProgress progress) {
+            if (dtos.isEmpty()) {
+                return 0;
+            }
+            long saved = 0;
+            try {
+                saved = saver.apply(dtos).size();
+                progress.committedChunks++;
+                log.info("Import progress for user ID: {} - {} rows read, chunk of {} committed",
+                        progress.userId, progress.totalRows, saved);
+            } catch (RuntimeException e) {
+                log.warn("Import chunk failed for user ID: {} (lines {}-{}): {}",
+                        progress.userId, lines.get(0), lines.get(lines.size() - 1), e.getMessage());
+                lines.forEach(line -> progress.fail(line, "저장 실패: " + e.getMessage()));
+            }
+            dtos.clear();
+            lines.clear();
+            return saved;
+        }
+    }
+
+    private static final class ImportProgress {
+
+        private final Long userId;
+        private final List<ImportRowErrorDto> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedMeals;
+        private long importedWorkouts;
+        private long failedRows;
+        private int committedChunks;
+
+        private ImportProgress(Long userId) {
+            this.userId = userId;
+        }
+
+        void fail(long line, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowErrorDto(line, message));
+            }
+        }
+    }
+
+    private static final class InvalidRowException extends RuntimeException {
+
+        private InvalidRowException(String message) {
+            super(message);
+        }
+    }
+}
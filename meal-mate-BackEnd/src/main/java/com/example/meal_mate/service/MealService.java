@@ -1,22 +1,38 @@
 package com.example.meal_mate.service;
 
+import com.example.meal_mate.dto.common.CursorPageResponseDto;
+import com.example.meal_mate.dto.meal.DailyNutrientsDto;
 import com.example.meal_mate.dto.meal.MealCreateDto;
+import com.example.meal_mate.dto.meal.MealNutrientRow;
 import com.example.meal_mate.dto.meal.MealResponseDto;
 import com.example.meal_mate.dto.meal.MealUpdateDto;
+import com.example.meal_mate.dto.meal.NutrientBreakdownResponseDto;
+import com.example.meal_mate.dto.meal.NutrientTotalsDto;
+import com.example.meal_mate.dto.summary.DailySummaryTotalsDto;
 import com.example.meal_mate.dto.user.UserResponseDto;
 import com.example.meal_mate.entity.Meal;
+import com.example.meal_mate.entity.TopItemsSketch;
 import com.example.meal_mate.entity.User;
+import com.example.meal_mate.exception.BadRequestException;
 import com.example.meal_mate.exception.ResourceNotFoundException;
 import com.example.meal_mate.repository.MealRepository;
 import com.example.meal_mate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,9 +40,16 @@ import java.util.stream.Collectors;
 @Slf4j
 @Transactional
 public class MealService {
+
+    // 영양소 분석 최대 기간 (윤년 1년)
+    static final int MAX_NUTRIENT_RANGE_DAYS = 366;
     
     private final MealRepository mealRepository;
     private final UserRepository userRepository;
+    private final DailySummaryService dailySummaryService;
+    private final DailyTotalsCache dailyTotalsCache;
+    private final NutrientBreakdownCache nutrientBreakdownCache;
+    private final TopItemsService topItemsService;
     
     public MealResponseDto createMeal(MealCreateDto createDto) {
         log.info("Creating new meal for user ID: {}", createDto.getUserId());
@@ -34,23 +57,47 @@ public class MealService {
         User user = userRepository.findById(createDto.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", createDto.getUserId()));
         
-        Meal meal = Meal.builder()
-                .foodName(createDto.getFoodName())
-                .calories(createDto.getCalories())
-                .protein(createDto.getProtein())
-                .carbs(createDto.getCarbs())
-                .fat(createDto.getFat())
-                .mealTime(createDto.getMealTime())
-                .mealType(createDto.getMealType())
-                .user(user)
-                .build();
-        
-        Meal savedMeal = mealRepository.save(meal);
+        Meal savedMeal = mealRepository.save(toEntity(createDto, user));
+        dailySummaryService.addMeal(savedMeal);
+        topItemsService.record(savedMeal.getUser().getId(), TopItemsSketch.Kind.FOOD, savedMeal.getFoodName(), 1);
         log.info("Meal created successfully with ID: {}", savedMeal.getId());
         
         return convertToResponseDto(savedMeal);
     }
     
+    /**
+     * 여러 식사 기록을 한 트랜잭션에서 저장합니다.
+     * 사용자는 IN 쿼리 한 번으로 조회하고, insert 는 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다.
+     * 일일 요약은 (사용자, 날짜)별로 묶어 한 번씩만 갱신합니다.
+     *
+     * @param createDtos 생성할 식사 기록 목록
+     * @return 생성된 식사 기록 목록 (요청 순서 유지)
+     */
+    public List<MealResponseDto> createMeals(List<MealCreateDto> createDtos) {
+        log.info("Creating {} meals in batch", createDtos.size());
+        
+        Map<Long, User> users = userRepository.findAllByIdOrThrow(createDtos.stream()
+                .map(MealCreateDto::getUserId)
+                .collect(Collectors.toSet()));
+        
+        List<Meal> meals = createDtos.stream()
+                .map(createDto -> toEntity(createDto, users.get(createDto.getUserId())))
+                .collect(Collectors.toList());
+        
+        List<Meal> savedMeals = mealRepository.saveAll(meals);
+        dailySummaryService.addMeals(savedMeals);
+        // 상위 항목 요약도 사용자별로 한 번씩만 갱신
+        savedMeals.stream()
+                .collect(Collectors.groupingBy(meal -> meal.getUser().getId(),
+                        Collectors.groupingBy(Meal::getFoodName, Collectors.summingInt(meal -> 1))))
+                .forEach((userId, counts) -> topItemsService.record(userId, TopItemsSketch.Kind.FOOD, counts));
+        log.info("{} meals created successfully", savedMeals.size());
+        
+        return savedMeals.stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toList());
+    }
+    
     @Transactional(readOnly = true)
     public MealResponseDto getMealById(Long id) {
         log.info("Fetching meal with ID: {}", id);
@@ -61,37 +108,68 @@ public class MealService {
         return convertToResponseDto(meal);
     }
     
+    /**
+     * 전체 식사 기록을 id 내림차순 커서 페이지로 조회합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     */
     @Transactional(readOnly = true)
-    public List<MealResponseDto> getAllMeals() {
-        log.info("Fetching all meals");
+    public CursorPageResponseDto<MealResponseDto> getAllMeals(String cursor, int size) {
+        log.info("Fetching meals page, cursor: {}, size: {}", cursor, size);
         
-        return mealRepository.findAll().stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        int pageSize = CursorPages.normalizeSize(size);
+        Pageable limit = CursorPages.limitOf(pageSize);
+        
+        List<MealResponseDto> meals = cursor == null
+                ? mealRepository.findPage(limit)
+                : mealRepository.findPageBefore(CursorPages.decodeId(cursor), limit);
+        
+        return CursorPages.toPage(meals, pageSize, Function.identity(),
+                meal -> CursorPages.encodeId(meal.getId()));
     }
     
+    /**
+     * 사용자의 식사 기록을 식사 시간 내림차순 커서 페이지로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     */
     @Transactional(readOnly = true)
-    public List<MealResponseDto> getMealsByUserId(Long userId) {
-        log.info("Fetching meals for user ID: {}", userId);
+    public CursorPageResponseDto<MealResponseDto> getMealsByUserId(Long userId, String cursor, int size) {
+        log.info("Fetching meals for user ID: {}, cursor: {}, size: {}", userId, cursor, size);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        int pageSize = CursorPages.normalizeSize(size);
+        Pageable limit = CursorPages.limitOf(pageSize);
         
-        return mealRepository.findByUserOrderByMealTimeDesc(user).stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        List<MealResponseDto> meals;
+        if (cursor == null) {
+            meals = mealRepository.findHistoryPageByUserId(userId, limit);
+        } else {
+            CursorPages.TimeCursor position = CursorPages.decodeTimeAndId(cursor);
+            meals = position.time() == null
+                    ? mealRepository.findHistoryPageByUserIdAfterUntimed(userId, position.id(), limit)
+                    : mealRepository.findHistoryPageByUserIdAfter(userId, position.time(), position.id(), limit);
+        }
+        if (meals.isEmpty()) {
+            userRepository.ensureExistsById(userId);
+        }
+        
+        return CursorPages.toPage(meals, pageSize, Function.identity(),
+                meal -> CursorPages.encodeTimeAndId(meal.getMealTime(), meal.getId()));
     }
     
     @Transactional(readOnly = true)
     public List<MealResponseDto> getMealsByUserIdAndMealType(Long userId, String mealType) {
         log.info("Fetching meals for user ID: {} and meal type: {}", userId, mealType);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        List<MealResponseDto> meals = mealRepository.findResponsesByUserIdAndMealType(userId, mealType);
+        if (meals.isEmpty()) {
+            userRepository.ensureExistsById(userId);
+        }
         
-        return mealRepository.findByUserAndMealTypeOrderByMealTimeDesc(user, mealType).stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return meals;
     }
     
     public MealResponseDto updateMeal(Long id, MealUpdateDto updateDto) {
@@ -100,16 +178,28 @@ public class MealService {
         Meal meal = mealRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Meal", "id", id));
         
+        // 변경 전 값을 요약에서 빼고, 변경 후 값을 다시 더함 (날짜가 바뀌어도 정확)
+        dailySummaryService.removeMeal(meal);
+        String previousFoodName = meal.getFoodName();
+        
         meal.setName(updateDto.getFoodName());
+        meal.setFoodName(updateDto.getFoodName());
         meal.setCalories(updateDto.getCalories());
         meal.setProtein(updateDto.getProtein());
         meal.setCarbs(updateDto.getCarbs());
         meal.setFat(updateDto.getFat());
+        meal.setQuantity(updateDto.getQuantity());
+        meal.setMealDate(updateDto.getMealDate());
         meal.setMealTime(updateDto.getMealTime());
         meal.setMealType(updateDto.getMealType());
         meal.setUpdatedAt(LocalDateTime.now());
         
         Meal updatedMeal = mealRepository.save(meal);
+        dailySummaryService.addMeal(updatedMeal);
+        if (!previousFoodName.equals(updatedMeal.getFoodName())) {
+            topItemsService.record(updatedMeal.getUser().getId(), TopItemsSketch.Kind.FOOD,
+                    Map.of(previousFoodName, -1, updatedMeal.getFoodName(), 1));
+        }
         log.info("Meal updated successfully: {}", updatedMeal.getName());
         
         return convertToResponseDto(updatedMeal);
@@ -122,9 +212,31 @@ public class MealService {
                 .orElseThrow(() -> new ResourceNotFoundException("Meal", "id", id));
         
         mealRepository.delete(meal);
+        dailySummaryService.removeMeal(meal);
+        topItemsService.record(meal.getUser().getId(), TopItemsSketch.Kind.FOOD, meal.getFoodName(), -1);
         log.info("Meal deleted successfully: {}", meal.getName());
     }
 
+    private Meal toEntity(MealCreateDto createDto, User user) {
+        return Meal.builder()
+                .foodName(createDto.getFoodName())
+                .calories(createDto.getCalories())
+                .protein(createDto.getProtein())
+                .carbs(createDto.getCarbs())
+                .fat(createDto.getFat())
+                .fiber(createDto.getFiber())
+                .sugar(createDto.getSugar())
+                .sodium(createDto.getSodium())
+                .quantity(createDto.getQuantity())
+                .unit(createDto.getUnit())
+                .mealDate(createDto.getMealDate())
+                .mealTime(createDto.getMealTime())
+                .mealType(createDto.getMealType())
+                .memo(createDto.getMemo())
+                .user(user)
+                .build();
+    }
+
     private UserResponseDto convertToResponseDto(User user) {
         return UserResponseDto.builder()
                 .id(user.getId())
@@ -145,16 +257,24 @@ public class MealService {
     }
 
     
-    private MealResponseDto convertToResponseDto(Meal meal) {
+    // JMH 벤치마크(MealConversionBenchmark)에서 직접 호출하므로 패키지 범위
+    MealResponseDto convertToResponseDto(Meal meal) {
         return MealResponseDto.builder()
                 .id(meal.getId())
-                .foodName(meal.getName())
+                .foodName(meal.getFoodName())
                 .calories(meal.getCalories())
                 .protein(meal.getProtein())
                 .carbs(meal.getCarbs())
                 .fat(meal.getFat())
-                .mealTime(meal.getMealTime())
+                .fiber(meal.getFiber())
+                .sugar(meal.getSugar())
+                .sodium(meal.getSodium())
+                .quantity(meal.getQuantity())
+                .unit(meal.getUnit())
                 .mealType(meal.getMealType())
+                .mealDate(meal.getMealDate())
+                .mealTime(meal.getMealTime())
+                .memo(meal.getMemo())
                 .userId(meal.getUser().getId())
                 .userName(meal.getUser().getUsername())
                 .createdAt(meal.getCreatedAt())
@@ -170,11 +290,7 @@ public class MealService {
         LocalDateTime startOfDay = date.atStartOfDay();
         LocalDateTime endOfDay = date.atTime(23, 59, 59);
 
-        List<Meal> meals = mealRepository.findByMealTimeBetween(startOfDay, endOfDay);
-
-        return meals.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return mealRepository.findResponsesByMealTimeBetween(startOfDay, endOfDay);
     }
 
     /**
@@ -188,21 +304,16 @@ public class MealService {
     public List<MealResponseDto> getMealsByUserIdAndDate(Long userId, LocalDate date) {
         log.info("Fetching meals for user ID: {} on date: {}", userId, date);
 
-        // 사용자 정보 조회 (존재하지 않으면 예외 발생)
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        // 해당 사용자가 그 날짜에 등록한 식사 조회 ((user_id, meal_date) 인덱스)
+        List<MealResponseDto> meals = mealRepository.findResponsesByUserIdAndMealDate(userId, date);
 
-        // 하루의 시작 시간과 끝 시간 설정
-        LocalDateTime startOfDay = date.atStartOfDay(); // 00:00:00
-        LocalDateTime endOfDay = date.atTime(23, 59, 59); // 23:59:59
-
-        // 해당 사용자에 대해 하루 동안 등록된 식사 조회
-        List<Meal> meals = mealRepository.findByUserAndMealTimeBetween(user, startOfDay, endOfDay);
+        // 결과가 없을 때만 사용자 존재 여부 확인 (존재하지 않으면 예외 발생)
+        if (meals.isEmpty()) {
+            userRepository.ensureExistsById(userId);
+        }
 
-        // Meal 엔티티 리스트를 응답 DTO로 변환하여 반환
-        return meals.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        // 쿼리에서 바로 응답 DTO로 프로젝션되므로 그대로 반환
+        return meals;
     }
 
     /**
@@ -212,25 +323,21 @@ public class MealService {
      * @param date 조회할 날짜 (예: 2025-07-09)
      * @return 총 칼로리 (double 형)
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 캐시 적중 시 트랜잭션/커넥션 없이 반환
     public double getTotalCaloriesByUserAndDate(Long userId, LocalDate date) {
         log.info("Calculating total calories for user ID: {} on date: {}", userId, date);
 
-        // 사용자 정보 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-
-        // 하루 범위 설정
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(23, 59, 59);
-
-        // 해당 사용자, 해당 날짜의 식사 기록 조회
-        List<Meal> meals = mealRepository.findByUserAndMealTimeBetween(user, startOfDay, endOfDay);
+        // (userId, date) 기록이 바뀔 때만 무효화되는 캐시를 먼저 확인
+        return dailyTotalsCache.get(userId, date, DailyTotalsCache.Metric.MEAL_CALORIES, () -> {
+            // (user_id, meal_date) 인덱스로 DB에서 바로 합산
+            long totalCalories = mealRepository.getTotalCaloriesByUserIdAndDate(userId, date);
 
-        // 칼로리 합산
-        return meals.stream()
-                .mapToDouble(Meal::getCalories)
-                .sum();
+            // 합계가 0일 때만 사용자 존재 여부 확인
+            if (totalCalories == 0) {
+                userRepository.ensureExistsById(userId);
+            }
+            return (double) totalCalories;
+        });
     }
 
     /**
@@ -241,30 +348,103 @@ public class MealService {
      * @param endDate 끝 날짜
      * @return 평균 칼로리 (double 형)
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 인덱스 적중 시 트랜잭션/커넥션 없이 반환
     public double getAverageCaloriesByUserAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
         log.info("Calculating average calories for user ID: {} from {} to {}", userId, startDate, endDate);
 
-        // 사용자 정보 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        // 원본 식사 행 대신 daily_summary 의 기간 합계로 평균 계산 (끼니당 평균, 기록이 없으면 0)
+        DailySummaryTotalsDto totals = dailySummaryService.getTotals(userId, startDate, endDate);
+        if (totals.getMealCount() == 0) {
+            userRepository.ensureExistsById(userId);
+            return 0.0;
+        }
+        return (double) totals.getCaloriesIn() / totals.getMealCount();
+    }
 
-        // 날짜 범위를 LocalDateTime으로 변환
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23, 59, 59);
+    /**
+     * 기간의 영양소(칼로리, 단백질/탄수화물/지방, 식이섬유/당/나트륨) 합계를 날짜별, 식사 유형별로 조회합니다.
+     * (날짜, 식사 유형) 으로 묶은 집계 쿼리 한 번의 결과를 나눠 담으며, (사용자, 기간) 단위로 캐시합니다.
+     *
+     * @param userId 사용자 ID
+     * @param startDate 시작 날짜
+     * @param endDate 끝 날짜 (최대 366일)
+     * @return 기간 합계, 식사 유형별 합계, 기록이 있는 날짜별 합계
+     */
+    @Transactional(readOnly = true)
+    public NutrientBreakdownResponseDto getNutrientBreakdown(Long userId, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("시작일이 종료일보다 늦습니다");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_NUTRIENT_RANGE_DAYS) {
+            throw new BadRequestException("영양소 분석 기간은 최대 " + MAX_NUTRIENT_RANGE_DAYS + "일입니다");
+        }
+
+        return nutrientBreakdownCache.get(userId, startDate, endDate, () -> {
+            log.info("Aggregating nutrients for user ID: {} from {} to {}", userId, startDate, endDate);
+            List<MealNutrientRow> rows = mealRepository.getNutrientTotalsByUserIdAndDateRange(userId, startDate, endDate);
+            if (rows.isEmpty()) {
+                userRepository.ensureExistsById(userId);
+            }
+            return toNutrientBreakdown(userId, startDate, endDate, rows);
+        });
+    }
 
-        // 해당 범위의 식사 기록 조회
-        List<Meal> meals = mealRepository.findByUserAndMealTimeBetween(user, start, end);
+    // 행은 (날짜, 식사 유형) 순으로 정렬되어 있으므로 날짜가 바뀔 때마다 하루를 닫음
+    private NutrientBreakdownResponseDto toNutrientBreakdown(Long userId, LocalDate startDate, LocalDate endDate,
+                                                             List<MealNutrientRow> rows) {
+        NutrientTotalsDto total = new NutrientTotalsDto();
+        Map<String, NutrientTotalsDto> byMealType = new LinkedHashMap<>();
+        List<DailyNutrientsDto> days = new ArrayList<>();
 
-        if (meals.isEmpty()) {
-            return 0.0;
+        DailyNutrientsDto day = null;
+        for (MealNutrientRow row : rows) {
+            if (day == null || !day.getDate().equals(row.mealDate())) {
+                day = DailyNutrientsDto.builder()
+                        .date(row.mealDate())
+                        .total(new NutrientTotalsDto())
+                        .byMealType(new LinkedHashMap<>())
+                        .build();
+                days.add(day);
+            }
+            NutrientTotalsDto meals = toNutrientTotals(row);
+            day.getByMealType().put(row.mealType(), meals);
+            addNutrients(day.getTotal(), meals);
+            addNutrients(byMealType.computeIfAbsent(row.mealType(), type -> new NutrientTotalsDto()), meals);
+            addNutrients(total, meals);
         }
 
-        // 평균 칼로리 계산
-        return meals.stream()
-                .mapToDouble(Meal::getCalories)
-                .average()
-                .orElse(0.0);
+        // 캐시에 그대로 보관되므로 목록은 수정할 수 없게 넘김
+        return NutrientBreakdownResponseDto.builder()
+                .userId(userId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .total(total)
+                .byMealType(Collections.unmodifiableMap(byMealType))
+                .days(Collections.unmodifiableList(days))
+                .build();
     }
 
+    private NutrientTotalsDto toNutrientTotals(MealNutrientRow row) {
+        return NutrientTotalsDto.builder()
+                .mealCount(row.mealCount())
+                .calories(row.calories())
+                .protein(row.protein())
+                .carbs(row.carbs())
+                .fat(row.fat())
+                .fiber(row.fiber())
+                .sugar(row.sugar())
+                .sodium(row.sodium())
+                .build();
+    }
+
+    private void addNutrients(NutrientTotalsDto target, NutrientTotalsDto source) {
+        target.setMealCount(target.getMealCount() + source.getMealCount());
+        target.setCalories(target.getCalories() + source.getCalories());
+        target.setProtein(target.getProtein() + source.getProtein());
+        target.setCarbs(target.getCarbs() + source.getCarbs());
+        target.setFat(target.getFat() + source.getFat());
+        target.setFiber(target.getFiber() + source.getFiber());
+        target.setSugar(target.getSugar() + source.getSugar());
+        target.setSodium(target.getSodium() + source.getSodium());
+    }
 }
@@ -0,0 +1,132 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.config.AfterCommit;
+import com.example.meal_mate.dto.meal.NutrientBreakdownResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 기간 영양소 분석 캐시 ((userId, startDate, endDate) 단위)
+ * 같은 기간을 반복 조회하는 화면(주간/월간 영양 리포트)을 위해 집계 결과를 그대로 보관하고,
+ * 식사 기록이 바뀌면 커밋 직후 그 날짜를 포함하는 해당 사용자의 기간만 무효화한다.
+ *
+ * 사용자별로 캐시한 기간 목록과 버전을 따로 두어 무효화는 그 사용자의 기간만 확인하고 (캐시 전체를 훑지 않음),
+ * 무효화가 버전을 올리므로 그 전에 시작된 계산(커밋 전 값을 읽었을 수 있음)은 결과를 저장하지 않는다.
+ */
+@Component
+public class NutrientBreakdownCache {
+
+    static final String CACHE_NAME = "nutrientBreakdown";
+
+    private record Key(Long userId, LocalDate startDate, LocalDate endDate) {
+
+        private boolean covers(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+
+    // 사용자별 캐시한 기간과 무효화 버전 (this 로 동기화)
+    // 이미 만료된 기간이 남아 있을 수 있지만, 없는 키를 무효화하는 것은 아무 일도 하지 않음
+    private static final class UserRanges {
+        private long version;
+        private final Set<Key> keys = new HashSet<>();
+    }
+
+    private final Cache<Key, NutrientBreakdownResponseDto> cache;
+    private final Cache<Long, UserRanges> users;
+
+    public NutrientBreakdownCache(@Value("${meal-mate.cache.nutrient-breakdown.maximum-size:2000}") long maximumSize,
+                                  @Value("${meal-mate.cache.nutrient-breakdown.expire-after-write:10m}") Duration expireAfterWrite,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        // 캐시 항목은 저장 시 사용자 항목도 조회하므로, 사용자 항목이 캐시 항목보다 먼저 만료되지 않도록 여유를 둠
+        this.users = Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterWrite.multipliedBy(2))
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * 캐시된 분석 결과를 반환하고, 없으면 loader 로 계산해 저장합니다. (loader 의 예외는 저장되지 않음)
+     * 계산 중 같은 사용자의 무효화가 있었으면 결과는 반환만 하고 저장하지 않습니다.
+     */
+    public NutrientBreakdownResponseDto get(Long userId, LocalDate startDate, LocalDate endDate,
+                                            Supplier<NutrientBreakdownResponseDto> loader) {
+        Key key = new Key(userId, startDate, endDate);
+        NutrientBreakdownResponseDto cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserRanges ranges = users.get(userId, id -> new UserRanges());
+        long version;
+        synchronized (ranges) {
+            version = ranges.version;
+        }
+        NutrientBreakdownResponseDto[] loaded = new NutrientBreakdownResponseDto[1];
+        NutrientBreakdownResponseDto stored = cache.get(key, k -> {
+            loaded[0] = loader.get();
+            // 기간 목록에 먼저 넣고 저장 - 이후의 무효화는 이 키를 찾아 저장이 끝난 뒤 지움
+            synchronized (ranges) {
+                if (ranges.version != version) {
+                    return null;
+                }
+                ranges.keys.add(k);
+            }
+            return loaded[0];
+        });
+        return stored != null ? stored : loaded[0];
+    }
+
+    // 식사 기록 변경 시 그 날짜를 포함하는 기간만 무효화
+    public void evict(Long userId, LocalDate date) {
+        AfterCommit.run(() -> {
+            UserRanges ranges = users.getIfPresent(userId);
+            if (ranges == null) {
+                return;
+            }
+            List<Key> covering = new ArrayList<>();
+            synchronized (ranges) {
+                ranges.version++;
+                ranges.keys.removeIf(key -> key.covers(date) && covering.add(key));
+            }
+            // 저장 중인 키는 저장이 끝날 때까지 기다렸다가 지우므로 잠금 밖에서 무효화
+            cache.invalidateAll(covering);
+        });
+    }
+
+    // 사용자 삭제 시 해당 사용자 항목 전체 무효화
+    public void evictUser(Long userId) {
+        AfterCommit.run(() -> {
+            UserRanges ranges = users.asMap().remove(userId);
+            if (ranges == null) {
+                return;
+            }
+            List<Key> keys;
+            synchronized (ranges) {
+                ranges.version++;
+                keys = new ArrayList<>(ranges.keys);
+                ranges.keys.clear();
+            }
+            cache.invalidateAll(keys);
+        });
+    }
+}
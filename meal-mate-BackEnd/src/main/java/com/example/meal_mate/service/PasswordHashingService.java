@@ -0,0 +1,128 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱(BCrypt) 전용 실행기
+ * 로그인/회원가입의 BCrypt 연산을 크기가 고정된 스레드 풀과 길이 제한 큐에서만 수행한다.
+ * 큐가 가득 차면 바로 503 으로 거절하므로, 로그인 폭주 시에도 해싱을 기다리는 Tomcat 스레드는
+ * (threads + queue-capacity) 개를 넘지 않고 나머지 식사/운동 API 는 계속 처리된다.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    static final String METRIC_PREFIX = "password.hash";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${meal-mate.security.password-hashing.threads:0}") int threads,
+                                  @Value("${meal-mate.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${meal-mate.security.password-hashing.wait-timeout:5s}") Duration waitTimeout,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeout = waitTimeout;
+
+        // 0 이면 CPU 코어 수의 절반 (BCrypt 는 CPU 바운드이므로 코어를 모두 차지하지 않도록)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            this.encodeTimer = Timer.builder(METRIC_PREFIX).tag("operation", "encode")
+                    .description("BCrypt hashing latency").register(registry);
+            this.matchTimer = Timer.builder(METRIC_PREFIX).tag("operation", "matches")
+                    .description("BCrypt hashing latency").register(registry);
+            this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                    .description("Hashing requests rejected because the queue was full").register(registry);
+            Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                    .description("Hashing requests waiting for a worker").register(registry);
+            Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                    .description("Hashing workers currently busy").register(registry);
+        } else {
+            this.encodeTimer = null;
+            this.matchTimer = null;
+            this.rejected = null;
+        }
+        log.info("Password hashing executor: {} threads, queue capacity {}", poolSize, queueCapacity);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchTimer);
+    }
+
+    private <T> T submit(Callable<T> hashing, Timer timer) {
+        Callable<T> task = timer == null ? hashing : () -> timer.recordCallable(hashing);
+
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new ServiceUnavailableException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("로그인 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("로그인 처리가 중단되었습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
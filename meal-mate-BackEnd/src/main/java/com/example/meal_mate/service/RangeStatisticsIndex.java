@@ -0,0 +1,378 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.entity.DailySummary;
+import com.example.meal_mate.repository.DailySummaryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자별 날짜 인덱스 누적합(prefix sum) - 임의 기간의 합계/평균을 O(1) 로 계산
+ * 첫 조회 때 사용자의 daily_summary 전체를 한 번 읽어 날짜순 원시 배열(칼로리, 영양소, 소모 칼로리, 운동 시간, 기록 수)의
+ * 누적합을 만들고, 이후 기간 합계는 두 위치의 차이로 구한다.
+ *
+ * 식사/운동 변경은 DailySummaryService 를 거쳐 커밋 직후 해당 날짜 이후 누적합에 증감분만 더한다 (최근 날짜일수록 짧음).
+ * 인덱스 전체 크기는 max-bytes 로 제한하며, 넘치면 오래 쓰이지 않은 사용자부터 제거된다 (Caffeine 크기 기반 축출).
+ */
+@Component
+@Slf4j
+public class RangeStatisticsIndex {
+
+    static final String CACHE_NAME = "rangeIndex";
+
+    // 사용자별 빌드/쓰기 경합 감지용 (사용자 ID 해시로 나눈 칸)
+    private static final int STRIPES = 64;
+
+    private final DailySummaryRepository dailySummaryRepository;
+    private final TransactionTemplate primaryRead;
+    private final Cache<Long, UserIndex> cache;
+
+    // 커밋 전 쓰기 수 / 반영된 쓰기 수 - 빌드 중 쓰기가 끼어들면 그 빌드 결과는 저장하지 않음
+    private final AtomicIntegerArray pendingWrites = new AtomicIntegerArray(STRIPES);
+    private final AtomicLongArray appliedWrites = new AtomicLongArray(STRIPES);
+
+    public RangeStatisticsIndex(DailySummaryRepository dailySummaryRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${meal-mate.range-index.max-bytes:64MB}") DataSize maxBytes,
+                                ObjectProvider<MeterRegistry> meterRegistry) {
+        this.dailySummaryRepository = dailySummaryRepository;
+
+        // 빌드 결과는 계속 증감분만 반영되므로 지연이 있을 수 있는 replica 가 아니라 primary 에서 읽음
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((Long userId, UserIndex index) -> index.weight())
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+            Gauge.builder("range.index.bytes", cache,
+                            c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                    .description("Estimated memory held by the per-user range statistics index")
+                    .baseUnit("bytes")
+                    .register(registry);
+        });
+        log.info("Range statistics index: max {} bytes", maxBytes.toBytes());
+    }
+
+    /**
+     * 기간 [startDate, endDate] 의 합계 (기록이 없는 날은 0)
+     * 빌드는 별도 트랜잭션(REQUIRES_NEW)에서 읽으므로, 호출하는 쪽이 트랜잭션을 열고 있으면 커넥션 두 개를 잡는다.
+     * 조회 메서드는 Propagation.SUPPORTS 로 호출할 것.
+     */
+    public RangeTotals totals(Long userId, LocalDate startDate, LocalDate endDate) {
+        UserIndex index = cache.getIfPresent(userId);
+        if (index == null) {
+            index = load(userId);
+        }
+        return index.totals(startDate, endDate);
+    }
+
+    /**
+     * 일일 요약에 반영되는 증감분을 인덱스에도 반영합니다. (호출한 쪽 트랜잭션이 커밋된 뒤에만)
+     */
+    public void record(Long userId, LocalDate date, long caloriesIn, double protein, double carbs, double fat,
+                       int mealCount, long caloriesBurned, int workoutDuration, int workoutCount) {
+        afterCommit(userId, index -> {
+            index.add(date, caloriesIn, protein, carbs, fat, mealCount, caloriesBurned, workoutDuration, workoutCount);
+            return index;
+        });
+    }
+
+    // 일일 요약 재적재/사용자 삭제 시 - 다음 조회 때 다시 빌드
+    public void evict(Long userId) {
+        afterCommit(userId, index -> null);
+    }
+
+    private UserIndex load(Long userId) {
+        int stripe = stripeOf(userId);
+        boolean cacheable = pendingWrites.get(stripe) == 0;
+        long applied = appliedWrites.get(stripe);
+
+        UserIndex built = UserIndex.of(primaryRead.execute(
+                status -> dailySummaryRepository.findByUserIdOrderBySummaryDateAsc(userId)));
+        if (!cacheable) {
+            return built;
+        }
+        // 쓰기 반영(compute)과 같은 키 잠금 안에서 확인하므로, 빌드 중 커밋된 쓰기가 있으면 저장하지 않음
+        UserIndex cached = cache.asMap().compute(userId, (key, existing) -> existing != null ? existing
+                : pendingWrites.get(stripe) == 0 && appliedWrites.get(stripe) == applied ? built : null);
+        return cached != null ? cached : built;
+    }
+
+    private void afterCommit(Long userId, UnaryOperator<UserIndex> update) {
+        int stripe = stripeOf(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, stripe, update, false);
+            return;
+        }
+        pendingWrites.incrementAndGet(stripe);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // 롤백이면 반영하지 않고 대기 수만 되돌림
+                apply(userId, stripe, status == STATUS_COMMITTED ? update : UnaryOperator.identity(), true);
+            }
+        });
+    }
+
+    private void apply(Long userId, int stripe, UnaryOperator<UserIndex> update, boolean pending) {
+        cache.asMap().compute(userId, (key, index) -> {
+            try {
+                return index == null ? null : update.apply(index);
+            } finally {
+                appliedWrites.incrementAndGet(stripe);
+                if (pending) {
+                    pendingWrites.decrementAndGet(stripe);
+                }
+            }
+        });
+    }
+
+    private static int stripeOf(Long userId) {
+        return Long.hashCode(userId) & (STRIPES - 1);
+    }
+
+    /**
+     * 기간 합계 (days: 기간의 날짜 수, loggedDays: 식사나 운동 기록이 있는 날짜 수)
+     */
+    public record RangeTotals(int days, int loggedDays, long caloriesIn, double protein, double carbs, double fat,
+                              int mealCount, long caloriesBurned, long workoutDuration, int workoutCount) {
+    }
+
+    /**
+     * 한 사용자의 누적합 배열 - 위치 i 는 first 부터 i 일 전까지의 합 (길이 days + 1)
+     * 앞뒤로 기간이 늘어날 수 있도록 ArrayList 처럼 여유 용량을 둔다.
+     */
+    static final class UserIndex {
+
+        // 누적합 한 칸의 크기 (long 3개, double 3개, int 3개) + 객체/배열 헤더 어림값
+        private static final int BYTES_PER_DAY = 3 * Long.BYTES + 3 * Double.BYTES + 3 * Integer.BYTES;
+        private static final int OVERHEAD_BYTES = 256;
+
+        private LocalDate first;
+        private int days;
+
+        private long[] caloriesIn;
+        private double[] protein;
+        private double[] carbs;
+        private double[] fat;
+        private long[] caloriesBurned;
+        private long[] workoutDuration;
+        private int[] mealCount;
+        private int[] workoutCount;
+        private int[] loggedDays;
+
+        private UserIndex(LocalDate first, int capacity) {
+            this.first = first;
+            allocate(capacity);
+        }
+
+        static UserIndex of(List<DailySummary> summaries) {
+            if (summaries.isEmpty()) {
+                return new UserIndex(null, 0);
+            }
+            LocalDate first = summaries.get(0).getSummaryDate();
+            LocalDate last = summaries.get(summaries.size() - 1).getSummaryDate();
+            UserIndex index = new UserIndex(first, (int) ChronoUnit.DAYS.between(first, last) + 1);
+            index.days = index.capacity();
+
+            int position = 0;
+            for (DailySummary summary : summaries) {
+                int day = (int) ChronoUnit.DAYS.between(first, summary.getSummaryDate());
+                // 기록 없는 날은 직전 누적값 유지
+                for (; position < day; position++) {
+                    index.carry(position);
+                }
+                index.carry(day);
+                index.put(day, valueOf(summary.getCaloriesIn()), valueOf(summary.getProtein()), valueOf(summary.getCarbs()),
+                        valueOf(summary.getFat()), valueOf(summary.getMealCount()), valueOf(summary.getCaloriesBurned()),
+                        valueOf(summary.getWorkoutDuration()), valueOf(summary.getWorkoutCount()));
+                position = day + 1;
+            }
+            return index;
+        }
+
+        synchronized RangeTotals totals(LocalDate startDate, LocalDate endDate) {
+            int requestedDays = (int) Math.max(ChronoUnit.DAYS.between(startDate, endDate) + 1, 0);
+            if (first == null) {
+                return new RangeTotals(requestedDays, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+            }
+            // 인덱스 범위 밖은 기록이 없으므로 잘라냄
+            int from = (int) Math.max(ChronoUnit.DAYS.between(first, startDate), 0);
+            int to = (int) Math.min(ChronoUnit.DAYS.between(first, endDate) + 1, days);
+            if (from >= to) {
+                return new RangeTotals(requestedDays, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+            }
+            return new RangeTotals(requestedDays, loggedDays[to] - loggedDays[from],
+                    caloriesIn[to] - caloriesIn[from], protein[to] - protein[from],
+                    carbs[to] - carbs[from], fat[to] - fat[from], mealCount[to] - mealCount[from],
+                    caloriesBurned[to] - caloriesBurned[from], workoutDuration[to] - workoutDuration[from],
+                    workoutCount[to] - workoutCount[from]);
+        }
+
+        synchronized void add(LocalDate date, long calories, double proteinDelta, double carbsDelta, double fatDelta,
+                              int meals, long burned, int duration, int workouts) {
+            int day = ensureDay(date);
+            boolean wasLogged = recordsOn(day) > 0;
+            for (int i = day + 1; i <= days; i++) {
+                caloriesIn[i] += calories;
+                protein[i] += proteinDelta;
+                carbs[i] += carbsDelta;
+                fat[i] += fatDelta;
+                mealCount[i] += meals;
+                caloriesBurned[i] += burned;
+                workoutDuration[i] += duration;
+                workoutCount[i] += workouts;
+            }
+            boolean isLogged = recordsOn(day) > 0;
+            if (wasLogged != isLogged) {
+                int change = isLogged ? 1 : -1;
+                for (int i = day + 1; i <= days; i++) {
+                    loggedDays[i] += change;
+                }
+            }
+        }
+
+        synchronized int weight() {
+            return OVERHEAD_BYTES + (capacity() + 1) * BYTES_PER_DAY;
+        }
+
+        private int recordsOn(int day) {
+            return mealCount[day + 1] - mealCount[day] + workoutCount[day + 1] - workoutCount[day];
+        }
+
+        // date 가 인덱스 범위 안에 들도록 늘리고 그 위치를 반환
+        private int ensureDay(LocalDate date) {
+            if (first == null) {
+                first = date;
+                days = 1;
+                allocate(Math.max(capacity(), 1));
+                return 0;
+            }
+            long offset = ChronoUnit.DAYS.between(first, date);
+            if (offset < 0) {
+                // 과거 날짜 기록 - 앞쪽에 0 인 날을 끼워 넣음 (드묾, O(n))
+                int shift = (int) -offset;
+                UserIndex grown = new UserIndex(date, days + shift);
+                for (int i = 1; i <= days; i++) {
+                    grown.copyFrom(this, i, i + shift);
+                }
+                adopt(grown, days + shift);
+                first = date;
+                return 0;
+            }
+            if (offset >= days) {
+                int needed = (int) offset + 1;
+                if (needed > capacity()) {
+                    UserIndex grown = new UserIndex(first, Math.max(needed, capacity() + (capacity() >> 1)));
+                    for (int i = 1; i <= days; i++) {
+                        grown.copyFrom(this, i, i);
+                    }
+                    adopt(grown, days);
+                }
+                for (int i = days; i < needed; i++) {
+                    carry(i);
+                }
+                days = needed;
+            }
+            return (int) offset;
+        }
+
+        private int capacity() {
+            return caloriesIn.length - 1;
+        }
+
+        private void allocate(int capacity) {
+            caloriesIn = new long[capacity + 1];
+            protein = new double[capacity + 1];
+            carbs = new double[capacity + 1];
+            fat = new double[capacity + 1];
+            caloriesBurned = new long[capacity + 1];
+            workoutDuration = new long[capacity + 1];
+            mealCount = new int[capacity + 1];
+            workoutCount = new int[capacity + 1];
+            loggedDays = new int[capacity + 1];
+        }
+
+        private void adopt(UserIndex other, int newDays) {
+            caloriesIn = other.caloriesIn;
+            protein = other.protein;
+            carbs = other.carbs;
+            fat = other.fat;
+            caloriesBurned = other.caloriesBurned;
+            workoutDuration = other.workoutDuration;
+            mealCount = other.mealCount;
+            workoutCount = other.workoutCount;
+            loggedDays = other.loggedDays;
+            days = newDays;
+        }
+
+        private void copyFrom(UserIndex source, int from, int to) {
+            caloriesIn[to] = source.caloriesIn[from];
+            protein[to] = source.protein[from];
+            carbs[to] = source.carbs[from];
+            fat[to] = source.fat[from];
+            caloriesBurned[to] = source.caloriesBurned[from];
+            workoutDuration[to] = source.workoutDuration[from];
+            mealCount[to] = source.mealCount[from];
+            workoutCount[to] = source.workoutCount[from];
+            loggedDays[to] = source.loggedDays[from];
+        }
+
+        // 위치 day + 1 을 위치 day 의 누적값으로 (그 날은 기록 없음)
+        private void carry(int day) {
+            copyFrom(this, day, day + 1);
+        }
+
+        private void put(int day, long calories, double proteinValue, double carbsValue, double fatValue,
+                         int meals, long burned, int duration, int workouts) {
+            int next = day + 1;
+            caloriesIn[next] += calories;
+            protein[next] += proteinValue;
+            carbs[next] += carbsValue;
+            fat[next] += fatValue;
+            mealCount[next] += meals;
+            caloriesBurned[next] += burned;
+            workoutDuration[next] += duration;
+            workoutCount[next] += workouts;
+            if (meals + workouts > 0) {
+                loggedDays[next]++;
+            }
+        }
+
+        private static long valueOf(Long value) {
+            return value == null ? 0 : value;
+        }
+
+        private static int valueOf(Integer value) {
+            return value == null ? 0 : value;
+        }
+
+        private static double valueOf(Double value) {
+            return value == null ? 0.0 : value;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.dto.common.NameCountRow;
+import com.example.meal_mate.dto.common.TopItemDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 항목 요약 (카운터 capacity 개 고정)
+ * 감시 중인 항목은 count 를 올리고, 가득 찼을 때 새 항목은 가장 작은 카운터를 빼앗아 min + 1 부터 센다 (error = min).
+ * 실제 횟수는 항상 count - error 이상 count 이하이며, 삭제는 감시 중인 항목의 count 만 줄인다.
+ */
+final class SpaceSavingSketch {
+
+    private static final byte FORMAT = 1;
+
+    private static final class Counter {
+        private long count;
+        private long error;
+
+        private Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    private SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    static SpaceSavingSketch empty(int capacity) {
+        return new SpaceSavingSketch(capacity);
+    }
+
+    // 정확한 집계 결과로 채움 (오차 0)
+    static SpaceSavingSketch exact(List<NameCountRow> rows, int capacity) {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(capacity);
+        for (NameCountRow row : rows) {
+            if (sketch.counters.size() == capacity) {
+                break;
+            }
+            sketch.counters.put(row.name(), new Counter(row.count(), 0));
+        }
+        return sketch;
+    }
+
+    void add(String name, long delta) {
+        if (name == null || delta == 0) {
+            return;
+        }
+        if (delta > 0) {
+            increment(name, delta);
+        } else {
+            decrement(name, -delta);
+        }
+    }
+
+    private void increment(String name, long amount) {
+        Counter counter = counters.get(name);
+        if (counter != null) {
+            counter.count += amount;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(name, new Counter(amount, 0));
+            return;
+        }
+        // 가장 작은 카운터를 새 항목에 넘김 - 빠진 항목의 횟수가 새 항목의 오차가 됨
+        Map.Entry<String, Counter> min = null;
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            if (min == null || entry.getValue().count < min.getValue().count) {
+                min = entry;
+            }
+        }
+        long minCount = min.getValue().count;
+        counters.remove(min.getKey());
+        counters.put(name, new Counter(minCount + amount, minCount));
+    }
+
+    private void decrement(String name, long amount) {
+        Counter counter = counters.get(name);
+        if (counter == null) {
+            return;
+        }
+        counter.count -= amount;
+        if (counter.count <= 0) {
+            counters.remove(name);
+        } else if (counter.error > counter.count) {
+            counter.error = counter.count;
+        }
+    }
+
+    // count 내림차순, 같으면 이름순
+    List<TopItemDto> top(int limit) {
+        return counters.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, Counter>>comparingLong(entry -> entry.getValue().count).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .map(entry -> TopItemDto.builder()
+                        .name(entry.getKey())
+                        .count(entry.getValue().count)
+                        .minimumCount(entry.getValue().count - entry.getValue().error)
+                        .build())
+                .toList();
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    // [format][size][name(UTF)][count(varint)][error(varint)]...
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + counters.size() * 24);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT);
+            writeVarLong(out, counters.size());
+            for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+                out.writeUTF(entry.getKey());
+                writeVarLong(out, entry.getValue().count);
+                writeVarLong(out, entry.getValue().error);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // 빈 payload 는 빈 요약
+    static SpaceSavingSketch decode(byte[] payload, int capacity) {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(capacity);
+        if (payload == null || payload.length == 0) {
+            return sketch;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte format = in.readByte();
+            if (format != FORMAT) {
+                throw new IllegalStateException("지원하지 않는 상위 항목 요약 형식입니다: " + format);
+            }
+            long size = readVarLong(in);
+            for (long i = 0; i < size; i++) {
+                String name = in.readUTF();
+                long count = readVarLong(in);
+                long error = readVarLong(in);
+                if (sketch.counters.size() < capacity) {
+                    sketch.counters.put(name, new Counter(count, error));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sketch;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint 가 너무 깁니다");
+    }
+}
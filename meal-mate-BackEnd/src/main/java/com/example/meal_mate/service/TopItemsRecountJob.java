@@ -0,0 +1,41 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.entity.TopItemsSketchId;
+import com.example.meal_mate.repository.TopItemsSketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상위 항목 요약 정기 재집계 (기본 매일 04:30)
+ * Space-Saving 카운터는 삭제가 섞이면 오차가 남을 수 있으므로 원본 기록으로 정확히 다시 센다.
+ * (사용자, 종류) 단위로 트랜잭션을 나눠 긴 락을 피하고, 한 행이 실패해도 나머지는 계속 진행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TopItemsRecountJob {
+
+    private final TopItemsSketchRepository sketchRepository;
+    private final TopItemsService topItemsService;
+
+    @Scheduled(cron = "${meal-mate.top-items.recount-cron:0 30 4 * * *}")
+    public void recountAll() {
+        List<TopItemsSketchId> ids = sketchRepository.findAllIds();
+        log.info("Recounting top items for {} sketches", ids.size());
+
+        int failed = 0;
+        for (TopItemsSketchId id : ids) {
+            try {
+                topItemsService.recount(id.getUserId(), id.getKind());
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Top items recount failed for user ID: {} ({})", id.getUserId(), id.getKind(), e);
+            }
+        }
+        log.info("Top items recount finished: {} sketches, {} failed", ids.size(), failed);
+    }
+}
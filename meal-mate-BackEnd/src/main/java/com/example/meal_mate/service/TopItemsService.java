@@ -0,0 +1,189 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.config.AfterCommit;
+import com.example.meal_mate.dto.common.NameCountRow;
+import com.example.meal_mate.dto.common.TopItemDto;
+import com.example.meal_mate.entity.TopItemsSketch;
+import com.example.meal_mate.entity.TopItemsSketch.Kind;
+import com.example.meal_mate.entity.TopItemsSketchId;
+import com.example.meal_mate.exception.BadRequestException;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.TopItemsSketchRepository;
+import com.example.meal_mate.repository.UserRepository;
+import com.example.meal_mate.repository.WorkoutRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 자주 먹은 음식 / 자주 한 운동 상위 항목
+ * 식사/운동 생성·삭제 시 같은 트랜잭션에서 (사용자, 종류) 요약 행을 잠그고 Space-Saving 카운터를 증감해 저장하므로,
+ * 조회는 전체 기록을 GROUP BY 하지 않고 커밋 직후 갱신된 메모리 스냅샷(없으면 요약 행 하나)에서 끝난다.
+ * 삭제로 인한 누적 오차는 TopItemsRecountJob 의 주기적인 정확한 재집계로 없앤다.
+ */
+@Service
+@Slf4j
+@Transactional
+public class TopItemsService {
+
+    static final String CACHE_NAME = "topItems";
+    static final int CAPACITY = 64;
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 20;
+
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
+    private record Key(Long userId, Kind kind) {
+    }
+
+    // version 이 더 높은 스냅샷만 캐시에 남김 (커밋 순서와 캐시 반영 순서가 달라도 안전)
+    private record Snapshot(long version, List<TopItemDto> items) {
+    }
+
+    private final TopItemsSketchRepository sketchRepository;
+    private final MealRepository mealRepository;
+    private final WorkoutRepository workoutRepository;
+    private final UserRepository userRepository;
+    private final Cache<Key, Snapshot> cache;
+
+    public TopItemsService(TopItemsSketchRepository sketchRepository,
+                           MealRepository mealRepository,
+                           WorkoutRepository workoutRepository,
+                           UserRepository userRepository,
+                           @Value("${meal-mate.cache.top-items.maximum-size:10000}") long maximumSize,
+                           @Value("${meal-mate.cache.top-items.expire-after-write:30m}") Duration expireAfterWrite,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.sketchRepository = sketchRepository;
+        this.mealRepository = mealRepository;
+        this.workoutRepository = workoutRepository;
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    public void record(Long userId, Kind kind, String name, int delta) {
+        record(userId, kind, Map.of(name, delta));
+    }
+
+    /**
+     * 이름별 증감을 요약에 반영합니다. (호출한 트랜잭션 안에서 요약 행을 잠금)
+     * 처음 기록하는 (사용자, 종류)는 현재 트랜잭션의 변경까지 포함한 정확한 집계로 채우므로 deltas 를 따로 더하지 않습니다.
+     */
+    public void record(Long userId, Kind kind, Map<String, Integer> deltas) {
+        if (deltas.values().stream().allMatch(delta -> delta == 0)) {
+            return;
+        }
+
+        TopItemsSketch row = lockRow(userId, kind);
+        SpaceSavingSketch sketch;
+        if (row.getVersion() == 0) {
+            sketch = exact(userId, kind);
+        } else {
+            sketch = SpaceSavingSketch.decode(row.getPayload(), CAPACITY);
+            deltas.forEach(sketch::add);
+        }
+        row.update(sketch.encode());
+        publish(new Key(userId, kind), new Snapshot(row.getVersion(), sketch.top(MAX_LIMIT)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TopItemDto> getTopFoods(Long userId, Integer limit) {
+        return getTopItems(userId, Kind.FOOD, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TopItemDto> getTopExercises(Long userId, Integer limit) {
+        return getTopItems(userId, Kind.EXERCISE, limit);
+    }
+
+    private List<TopItemDto> getTopItems(Long userId, Kind kind, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new BadRequestException("limit 은 1 이상 " + MAX_LIMIT + " 이하여야 합니다");
+        }
+
+        Key key = new Key(userId, kind);
+        Snapshot snapshot = cache.getIfPresent(key);
+        if (snapshot == null) {
+            snapshot = load(userId, kind);
+            if (snapshot.items().isEmpty()) {
+                userRepository.ensureExistsById(userId);
+            }
+            cache.asMap().merge(key, snapshot, TopItemsService::newer);
+        }
+
+        List<TopItemDto> items = snapshot.items();
+        return items.size() <= size ? items : items.subList(0, size);
+    }
+
+    // 아직 요약 행이 없거나 채워지지 않았으면 정확한 집계를 저장하지 않고 그대로 사용 (조회 트랜잭션은 readOnly)
+    private Snapshot load(Long userId, Kind kind) {
+        return sketchRepository.findById(new TopItemsSketchId(userId, kind))
+                .filter(row -> row.getVersion() > 0)
+                .map(row -> new Snapshot(row.getVersion(),
+                        SpaceSavingSketch.decode(row.getPayload(), CAPACITY).top(MAX_LIMIT)))
+                .orElseGet(() -> new Snapshot(0, exact(userId, kind).top(MAX_LIMIT)));
+    }
+
+    /**
+     * 원본 기록으로 정확히 다시 집계해 요약을 교체합니다. (오차 0, 행이 없으면 아무것도 하지 않음)
+     */
+    public void recount(Long userId, Kind kind) {
+        sketchRepository.findForUpdate(userId, kind).ifPresent(row -> {
+            SpaceSavingSketch sketch = exact(userId, kind);
+            row.update(sketch.encode());
+            publish(new Key(userId, kind), new Snapshot(row.getVersion(), sketch.top(MAX_LIMIT)));
+        });
+    }
+
+    // 사용자 삭제 시 요약 행과 캐시 항목 제거
+    public void deleteByUserId(Long userId) {
+        sketchRepository.deleteByUserId(userId);
+        AfterCommit.run(() -> {
+            for (Kind kind : Kind.values()) {
+                cache.invalidate(new Key(userId, kind));
+            }
+        });
+    }
+
+    // 행이 있으면 바로 잠그고, 없을 때만 빈 행을 만든 뒤 다시 잠금 (평소에는 SELECT ... FOR UPDATE 한 번)
+    private TopItemsSketch lockRow(Long userId, Kind kind) {
+        return sketchRepository.findForUpdate(userId, kind).orElseGet(() -> {
+            sketchRepository.insertIfAbsent(userId, kind.name(), EMPTY_PAYLOAD);
+            return sketchRepository.findForUpdate(userId, kind)
+                    .orElseThrow(() -> new IllegalStateException("상위 항목 요약 행을 만들지 못했습니다: " + userId + "/" + kind));
+        });
+    }
+
+    private SpaceSavingSketch exact(Long userId, Kind kind) {
+        PageRequest page = PageRequest.of(0, CAPACITY);
+        List<NameCountRow> rows = kind == Kind.FOOD
+                ? mealRepository.getMostConsumedFoodsByUserId(userId, page)
+                : workoutRepository.getMostFrequentExercisesByUserId(userId, page);
+        return SpaceSavingSketch.exact(rows, CAPACITY);
+    }
+
+    private void publish(Key key, Snapshot snapshot) {
+        AfterCommit.run(() -> cache.asMap().merge(key, snapshot, TopItemsService::newer));
+    }
+
+    private static Snapshot newer(Snapshot current, Snapshot candidate) {
+        return candidate.version() >= current.version() ? candidate : current;
+    }
+}
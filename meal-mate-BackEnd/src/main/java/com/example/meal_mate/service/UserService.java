@@ -1,5 +1,6 @@
 package com.example.meal_mate.service;
 
+import com.example.meal_mate.dto.common.CursorPageResponseDto;
 import com.example.meal_mate.dto.user.UserLoginDto;
 import com.example.meal_mate.dto.user.UserRegistrationDto;
 import com.example.meal_mate.dto.user.UserResponseDto;
@@ -9,15 +10,16 @@ import com.example.meal_mate.exception.DuplicateResourceException;
 import com.example.meal_mate.exception.ResourceNotFoundException;
 import com.example.meal_mate.repository.UserRepository;
 import com.example.meal_mate.config.JwtTokenProvider;  // JwtTokenProvider import 추가
+import com.example.meal_mate.config.ReadYourWritesTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,9 +28,16 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;  // JwtTokenProvider 주입 추가
-
+    private final DailySummaryService dailySummaryService;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DailyTotalsCache dailyTotalsCache;
+    private final NutrientBreakdownCache nutrientBreakdownCache;
+    private final TopItemsService topItemsService;
+
+    // 해싱(수십 ms)하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (조회/저장은 각각 리포지토리 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto registerUser(UserRegistrationDto registrationDto) {
         log.info("Registering new user with email: {}", registrationDto.getEmail());
 
@@ -39,7 +48,7 @@ public class UserService {
         User user = User.builder()
                 .username(registrationDto.getUsername())
                 .email(registrationDto.getEmail())
-                .password(passwordEncoder.encode(registrationDto.getPassword()))
+                .password(passwordHashingService.encode(registrationDto.getPassword()))
                 .nickname(registrationDto.getNickname())
                 .age(registrationDto.getAge())
                 .gender(registrationDto.getGender())
@@ -58,6 +67,7 @@ public class UserService {
         return convertToResponseDto(savedUser, token);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto loginUser(UserLoginDto loginDto) {
         log.info("User login attempt with usernameOrEmail: {}", loginDto.getUsernameOrEmail());
 
@@ -65,7 +75,7 @@ public class UserService {
         User user = userRepository.findByUsernameOrEmail(loginDto.getUsernameOrEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + loginDto.getUsernameOrEmail()));
 
-        if (!passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(loginDto.getPassword(), user.getPassword())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다");
         }
 
@@ -77,13 +87,16 @@ public class UserService {
         // 토큰 포함하여 반환 (직접 빌더 사용)
         return UserResponseDto.builder()
                 .id(user.getId())
+                .username(user.getUsername())
                 .email(user.getEmail())
                 .nickname(user.getNickname())
                 .age(user.getAge())
                 .gender(user.getGender())
                 .height(user.getHeight())
                 .weight(user.getWeight())
+                .targetWeight(user.getTargetWeight())
                 .activityLevel(user.getActivityLevel())
+                .dailyCalorieGoal(user.getDailyCalorieGoal())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
                 .token(token)  // JWT 토큰 추가 필드
@@ -101,12 +114,18 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public List<UserResponseDto> getAllUsers() {
-        log.info("Fetching all users");
+    public CursorPageResponseDto<UserResponseDto> getAllUsers(String cursor, int size) {
+        log.info("Fetching users page, cursor: {}, size: {}", cursor, size);
+
+        int pageSize = CursorPages.normalizeSize(size);
+        Pageable limit = CursorPages.limitOf(pageSize);
+
+        List<User> users = cursor == null
+                ? userRepository.findAllByOrderByIdAsc(limit)
+                : userRepository.findByIdGreaterThanOrderByIdAsc(CursorPages.decodeId(cursor), limit);
 
-        return userRepository.findAll().stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return CursorPages.toPage(users, pageSize, this::convertToResponseDto,
+                user -> CursorPages.encodeId(user.getId()));
     }
 
     public UserResponseDto updateUser(Long id, UserUpdateDto updateDto) {
@@ -130,6 +149,7 @@ public class UserService {
         user.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
+        readYourWritesTracker.recordWrite(id);
         log.info("User updated successfully: {}", updatedUser.getEmail());
 
         return convertToResponseDto(updatedUser);
@@ -141,7 +161,11 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
+        dailySummaryService.deleteByUserId(id);
+        topItemsService.deleteByUserId(id);
         userRepository.delete(user);
+        dailyTotalsCache.evictUser(id);
+        nutrientBreakdownCache.evictUser(id);
         log.info("User deleted successfully: {}", user.getEmail());
     }
 
@@ -164,13 +188,16 @@ public class UserService {
     private UserResponseDto convertToResponseDto(User user) {
         return UserResponseDto.builder()
                 .id(user.getId())
+                .username(user.getUsername())
                 .email(user.getEmail())
                 .nickname(user.getNickname())
                 .age(user.getAge())
                 .gender(user.getGender())
                 .height(user.getHeight())
                 .weight(user.getWeight())
+                .targetWeight(user.getTargetWeight())
                 .activityLevel(user.getActivityLevel())
+                .dailyCalorieGoal(user.getDailyCalorieGoal())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
                 // 토큰은 로그인 시에만 포함하므로 여기서는 제외
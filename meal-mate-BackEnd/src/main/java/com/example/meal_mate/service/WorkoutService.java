@@ -1,8 +1,11 @@
 package com.example.meal_mate.service;
 
+import com.example.meal_mate.dto.common.CursorPageResponseDto;
+import com.example.meal_mate.dto.summary.DailySummaryTotalsDto;
 import com.example.meal_mate.dto.workout.WorkoutCreateDto;
 import com.example.meal_mate.dto.workout.WorkoutResponseDto;
 import com.example.meal_mate.dto.workout.WorkoutUpdateDto;
+import com.example.meal_mate.entity.TopItemsSketch;
 import com.example.meal_mate.entity.User;
 import com.example.meal_mate.entity.Workout;
 import com.example.meal_mate.exception.ResourceNotFoundException;
@@ -10,12 +13,16 @@ import com.example.meal_mate.repository.UserRepository;
 import com.example.meal_mate.repository.WorkoutRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,8 +31,13 @@ import java.util.stream.Collectors;
 @Transactional
 public class WorkoutService {
     
+    private static final String DEFAULT_EXERCISE_TYPE = "general";
+    
     private final WorkoutRepository workoutRepository;
     private final UserRepository userRepository;
+    private final DailySummaryService dailySummaryService;
+    private final DailyTotalsCache dailyTotalsCache;
+    private final TopItemsService topItemsService;
     
     public WorkoutResponseDto createWorkout(WorkoutCreateDto createDto) {
         log.info("Creating new workout for user ID: {}", createDto.getUserId());
@@ -33,21 +45,44 @@ public class WorkoutService {
         User user = userRepository.findById(createDto.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", createDto.getUserId()));
         
-        Workout workout = Workout.builder()
-                .exerciseName(createDto.getName())
-                .duration(createDto.getDuration())
-                .caloriesBurned(createDto.getCaloriesBurned())
-                .workoutTime(createDto.getWorkoutTime())
-                .memo(createDto.getNotes())
-                .user(user)
-                .build();
-        
-        Workout savedWorkout = workoutRepository.save(workout);
+        Workout savedWorkout = workoutRepository.save(toEntity(createDto, user));
+        dailySummaryService.addWorkout(savedWorkout);
+        topItemsService.record(savedWorkout.getUser().getId(), TopItemsSketch.Kind.EXERCISE, savedWorkout.getExerciseName(), 1);
         log.info("Workout created successfully with ID: {}", savedWorkout.getId());
         
         return convertToResponseDto(savedWorkout);
     }
     
+    /**
+     * 여러 운동 기록을 한 트랜잭션에서 저장합니다.
+     * 사용자는 IN 쿼리 한 번으로 조회하고, insert 는 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다.
+     * 일일 요약은 (사용자, 날짜)별로 묶어 한 번씩만 갱신합니다.
+     */
+    public List<WorkoutResponseDto> createWorkouts(List<WorkoutCreateDto> createDtos) {
+        log.info("Creating {} workouts in batch", createDtos.size());
+        
+        Map<Long, User> users = userRepository.findAllByIdOrThrow(createDtos.stream()
+                .map(WorkoutCreateDto::getUserId)
+                .collect(Collectors.toSet()));
+        
+        List<Workout> workouts = createDtos.stream()
+                .map(createDto -> toEntity(createDto, users.get(createDto.getUserId())))
+                .collect(Collectors.toList());
+        
+        List<Workout> savedWorkouts = workoutRepository.saveAll(workouts);
+        dailySummaryService.addWorkouts(savedWorkouts);
+        // 상위 항목 요약도 사용자별로 한 번씩만 갱신
+        savedWorkouts.stream()
+                .collect(Collectors.groupingBy(workout -> workout.getUser().getId(),
+                        Collectors.groupingBy(Workout::getExerciseName, Collectors.summingInt(workout -> 1))))
+                .forEach((userId, counts) -> topItemsService.record(userId, TopItemsSketch.Kind.EXERCISE, counts));
+        log.info("{} workouts created successfully", savedWorkouts.size());
+        
+        return savedWorkouts.stream()
+                .map(this::convertToResponseDto)
+                .collect(Collectors.toList());
+    }
+    
     @Transactional(readOnly = true)
     public WorkoutResponseDto getWorkoutById(Long id) {
         log.info("Fetching workout with ID: {}", id);
@@ -59,24 +94,42 @@ public class WorkoutService {
     }
     
     @Transactional(readOnly = true)
-    public List<WorkoutResponseDto> getAllWorkouts() {
-        log.info("Fetching all workouts");
+    public CursorPageResponseDto<WorkoutResponseDto> getAllWorkouts(String cursor, int size) {
+        log.info("Fetching workouts page, cursor: {}, size: {}", cursor, size);
         
-        return workoutRepository.findAll().stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        int pageSize = CursorPages.normalizeSize(size);
+        Pageable limit = CursorPages.limitOf(pageSize);
+        
+        List<WorkoutResponseDto> workouts = cursor == null
+                ? workoutRepository.findPage(limit)
+                : workoutRepository.findPageBefore(CursorPages.decodeId(cursor), limit);
+        
+        return CursorPages.toPage(workouts, pageSize, Function.identity(),
+                workout -> CursorPages.encodeId(workout.getId()));
     }
     
     @Transactional(readOnly = true)
-    public List<WorkoutResponseDto> getWorkoutsByUserId(Long userId) {
-        log.info("Fetching workouts for user ID: {}", userId);
+    public CursorPageResponseDto<WorkoutResponseDto> getWorkoutsByUserId(Long userId, String cursor, int size) {
+        log.info("Fetching workouts for user ID: {}, cursor: {}, size: {}", userId, cursor, size);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        int pageSize = CursorPages.normalizeSize(size);
+        Pageable limit = CursorPages.limitOf(pageSize);
         
-        return workoutRepository.findByUserOrderByWorkoutTimeDesc(user).stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        List<WorkoutResponseDto> workouts;
+        if (cursor == null) {
+            workouts = workoutRepository.findHistoryPageByUserId(userId, limit);
+        } else {
+            CursorPages.TimeCursor position = CursorPages.decodeTimeAndId(cursor);
+            workouts = position.time() == null
+                    ? workoutRepository.findHistoryPageByUserIdAfterUntimed(userId, position.id(), limit)
+                    : workoutRepository.findHistoryPageByUserIdAfter(userId, position.time(), position.id(), limit);
+        }
+        if (workouts.isEmpty()) {
+            userRepository.ensureExistsById(userId);
+        }
+        
+        return CursorPages.toPage(workouts, pageSize, Function.identity(),
+                workout -> CursorPages.encodeTimeAndId(workout.getWorkoutTime(), workout.getId()));
     }
     
     public WorkoutResponseDto updateWorkout(Long id, WorkoutUpdateDto updateDto) {
@@ -85,14 +138,24 @@ public class WorkoutService {
         Workout workout = workoutRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Workout", "id", id));
         
+        // 변경 전 값을 요약에서 빼고, 변경 후 값을 다시 더함 (날짜가 바뀌어도 정확)
+        dailySummaryService.removeWorkout(workout);
+        String previousExerciseName = workout.getExerciseName();
+        
         workout.setExerciseName(updateDto.getName());
         workout.setDuration(updateDto.getDuration());
         workout.setCaloriesBurned(updateDto.getCaloriesBurned());
+        workout.setWorkoutDate(updateDto.getWorkoutTime().toLocalDate());
         workout.setWorkoutTime(updateDto.getWorkoutTime());
         workout.setMemo(updateDto.getNotes());
         workout.setUpdatedAt(LocalDateTime.now());
         
         Workout updatedWorkout = workoutRepository.save(workout);
+        dailySummaryService.addWorkout(updatedWorkout);
+        if (!previousExerciseName.equals(updatedWorkout.getExerciseName())) {
+            topItemsService.record(updatedWorkout.getUser().getId(), TopItemsSketch.Kind.EXERCISE,
+                    Map.of(previousExerciseName, -1, updatedWorkout.getExerciseName(), 1));
+        }
         log.info("Workout updated successfully: {}", updatedWorkout.getExerciseName());
         
         return convertToResponseDto(updatedWorkout);
@@ -105,6 +168,8 @@ public class WorkoutService {
                 .orElseThrow(() -> new ResourceNotFoundException("Workout", "id", id));
         
         workoutRepository.delete(workout);
+        dailySummaryService.removeWorkout(workout);
+        topItemsService.record(workout.getUser().getId(), TopItemsSketch.Kind.EXERCISE, workout.getExerciseName(), -1);
         log.info("Workout deleted successfully: {}", workout.getExerciseName());
     }
     
@@ -112,93 +177,90 @@ public class WorkoutService {
     public List<WorkoutResponseDto> getWorkoutsByDate(LocalDate date) {
         log.info("Fetching workouts for date: {}", date);
         
-        return workoutRepository.findByWorkoutTimeBetweenOrderByWorkoutTimeDesc(
+        return workoutRepository.findResponsesByWorkoutTimeBetween(
                 date.atStartOfDay(),
                 date.atTime(23, 59, 59)
-        ).stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        );
     }
     
     @Transactional(readOnly = true)
     public List<WorkoutResponseDto> getWorkoutsByUserIdAndDate(Long userId, LocalDate date) {
         log.info("Fetching workouts for user ID: {} on date: {}", userId, date);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        List<WorkoutResponseDto> workouts = workoutRepository.findResponsesByUserIdAndWorkoutDate(userId, date);
+        if (workouts.isEmpty()) {
+            userRepository.ensureExistsById(userId);
+        }
         
-        return workoutRepository.findByUserAndWorkoutTimeBetweenOrderByWorkoutTimeDesc(
-                user,
-                date.atStartOfDay(),
-                date.atTime(23, 59, 59)
-        ).stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return workouts;
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 캐시 적중 시 트랜잭션/커넥션 없이 반환
     public double getTotalCaloriesBurnedByUserAndDate(Long userId, LocalDate date) {
         log.info("Calculating total calories burned for user ID: {} on date: {}", userId, date);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        
-        return workoutRepository.findByUserAndWorkoutTimeBetweenOrderByWorkoutTimeDesc(
-                user,
-                date.atStartOfDay(),
-                date.atTime(23, 59, 59)
-        ).stream()
-                .mapToDouble(Workout::getCaloriesBurned)
-                .sum();
+        return dailyTotalsCache.get(userId, date, DailyTotalsCache.Metric.WORKOUT_CALORIES, () -> {
+            // (user_id, workout_date) 인덱스로 DB에서 바로 합산
+            long totalCalories = workoutRepository.getTotalCaloriesBurnedByUserIdAndDate(userId, date);
+            if (totalCalories == 0) {
+                userRepository.ensureExistsById(userId);
+            }
+            return (double) totalCalories;
+        });
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 인덱스 적중 시 트랜잭션/커넥션 없이 반환
     public double getAverageCaloriesBurnedByUserAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
         log.info("Calculating average calories burned for user ID: {} from {} to {}", userId, startDate, endDate);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        
-        List<Workout> workouts = workoutRepository.findByUserAndWorkoutTimeBetweenOrderByWorkoutTimeDesc(
-                user,
-                startDate.atStartOfDay(),
-                endDate.atTime(23, 59, 59)
-        );
-        
-        return workouts.stream()
-                .mapToDouble(Workout::getCaloriesBurned)
-                .average()
-                .orElse(0.0);
+        // 원본 운동 행 대신 daily_summary 의 기간 합계로 평균 계산 (운동 1회당 평균, 기록이 없으면 0)
+        DailySummaryTotalsDto totals = dailySummaryService.getTotals(userId, startDate, endDate);
+        if (totals.getWorkoutCount() == 0) {
+            userRepository.ensureExistsById(userId);
+            return 0.0;
+        }
+        return (double) totals.getCaloriesBurned() / totals.getWorkoutCount();
     }
     
     @Transactional(readOnly = true)
     public List<WorkoutResponseDto> getWorkoutsByUserIdAndType(Long userId, String workoutType) {
         log.info("Fetching workouts for user ID: {} with type: {}", userId, workoutType);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        List<WorkoutResponseDto> workouts = workoutRepository.findResponsesByUserIdAndExerciseNameContaining(
+                userId, workoutType
+        );
+        if (workouts.isEmpty()) {
+            userRepository.ensureExistsById(userId);
+        }
         
-        return workoutRepository.findByUserAndExerciseNameContainingIgnoreCaseOrderByWorkoutTimeDesc(
-                user, workoutType
-        ).stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return workouts;
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 캐시 적중 시 트랜잭션/커넥션 없이 반환
     public int getTotalDurationByUserAndDate(Long userId, LocalDate date) {
         log.info("Calculating total workout duration for user ID: {} on date: {}", userId, date);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        
-        return workoutRepository.findByUserAndWorkoutTimeBetweenOrderByWorkoutTimeDesc(
-                user,
-                date.atStartOfDay(),
-                date.atTime(23, 59, 59)
-        ).stream()
-                .mapToInt(Workout::getDuration)
-                .sum();
+        return dailyTotalsCache.get(userId, date, DailyTotalsCache.Metric.WORKOUT_DURATION, () -> {
+            // (user_id, workout_date) 인덱스로 DB에서 바로 합산
+            int totalDuration = workoutRepository.getTotalDurationByUserIdAndDate(userId, date).intValue();
+            if (totalDuration == 0) {
+                userRepository.ensureExistsById(userId);
+            }
+            return totalDuration;
+        });
+    }
+    
+    private Workout toEntity(WorkoutCreateDto createDto, User user) {
+        return Workout.builder()
+                .exerciseName(createDto.getName())
+                .exerciseType(createDto.getExerciseType() != null ? createDto.getExerciseType() : DEFAULT_EXERCISE_TYPE)
+                .duration(createDto.getDuration())
+                .caloriesBurned(createDto.getCaloriesBurned())
+                .workoutDate(createDto.getWorkoutTime().toLocalDate())
+                .workoutTime(createDto.getWorkoutTime())
+                .memo(createDto.getNotes())
+                .user(user)
+                .build();
     }
     
     private WorkoutResponseDto convertToResponseDto(Workout workout) {
@@ -0,0 +1,39 @@
+package com.example.meal_mate;
+
+import com.example.meal_mate.dto.meal.MealCreateDto;
+import com.example.meal_mate.entity.User;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 테스트 공통 입력 데이터 (다른 테스트와 겹치지 않는 사용자, 기본값을 채운 식사 생성 요청)
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    // <prefix>-<임의 8자> 이름의 사용자 (저장 전 - 필요한 필드를 더 채워 build)
+    public static User.UserBuilder user(String prefix) {
+        String name = prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .username(name)
+                .email(name + "@test.local")
+                .password("x")
+                .nickname(name);
+    }
+
+    // date 12시의 점심 식사 생성 요청 (음식 이름은 food<calories>)
+    public static MealCreateDto meal(Long userId, int calories, LocalDate date) {
+        MealCreateDto dto = new MealCreateDto();
+        dto.setUserId(userId);
+        dto.setFoodName("food" + calories);
+        dto.setCalories(calories);
+        dto.setQuantity(1);
+        dto.setMealType("lunch");
+        dto.setMealDate(date);
+        dto.setMealTime(date.atTime(12, 0));
+        return dto;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.meal_mate.benchmark;
+
+import com.example.meal_mate.dto.meal.MealBatchCreateDto;
+import com.example.meal_mate.dto.meal.MealCreateDto;
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 단건 POST /api/meals 반복과 POST /api/meals/batch 의 처리량 비교
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BatchInsertBenchmarkTest {
+
+    private static final int ROWS = 2_000;
+    private static final int BATCH_SIZE = 200;
+    private static final int WARMUP_ROWS = 400;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void batchEndpointOutperformsOneItemPerRequest() throws Exception {
+        User user = userRepository.save(User.builder()
+                .username("batch-bench")
+                .email("batch-bench@bench.local")
+                .password("x")
+                .build());
+        List<MealCreateDto> warmup = meals(user.getId(), WARMUP_ROWS);
+        List<MealCreateDto> rows = meals(user.getId(), ROWS);
+
+        insertOneByOne(warmup);
+        insertInBatches(warmup);
+
+        long singleNanos = insertOneByOne(rows);
+        long batchNanos = insertInBatches(rows);
+
+        double singleRate = ROWS / (singleNanos / 1e9);
+        double batchRate = ROWS / (batchNanos / 1e9);
+        System.out.printf("single POST /api/meals      : %8.0f rows/s (%d ms)%n", singleRate, singleNanos / 1_000_000);
+        System.out.printf("POST /api/meals/batch (%d) : %8.0f rows/s (%d ms)%n", BATCH_SIZE, batchRate, batchNanos / 1_000_000);
+        System.out.printf("speedup                     : %8.1fx%n", batchRate / singleRate);
+
+        assertThat(batchRate).isGreaterThan(singleRate);
+    }
+
+    private long insertOneByOne(List<MealCreateDto> rows) throws Exception {
+        long start = System.nanoTime();
+        for (MealCreateDto row : rows) {
+            mockMvc.perform(post("/api/meals")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsBytes(row)))
+                    .andExpect(status().isCreated());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long insertInBatches(List<MealCreateDto> rows) throws Exception {
+        long start = System.nanoTime();
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            MealBatchCreateDto batch = new MealBatchCreateDto();
+            batch.setMeals(rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+            mockMvc.perform(post("/api/meals/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsBytes(batch)))
+                    .andExpect(status().isCreated());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private List<MealCreateDto> meals(Long userId, int count) {
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        List<MealCreateDto> meals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MealCreateDto meal = new MealCreateDto();
+            meal.setUserId(userId);
+            meal.setFoodName("food" + (i % 50));
+            meal.setCalories(300 + i % 200);
+            meal.setQuantity(1);
+            meal.setMealType("lunch");
+            meal.setMealDate(firstDay.plusDays(i / 4));
+            meal.setMealTime(firstDay.plusDays(i / 4).atTime(12, 0));
+            meals.add(meal);
+        }
+        return meals;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.meal_mate.benchmark;
+
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.WorkoutRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일일 칼로리 집계 지연시간이 사용자 기록 수와 무관하게 유지되는지 측정
+ * (user_id, meal_date) / (user_id, workout_date) 인덱스 위에서 SUM 이 해당 날짜 행만 읽는지 확인한다.
+ * 서비스 메서드는 DailyTotalsCache 에 적중하므로 집계 쿼리를 직접 호출해 측정한다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class CalorieAggregationBenchmarkTest {
+
+    private static final int[] HISTORY_SIZES = {1_000, 10_000, 100_000};
+    private static final int MEALS_PER_DAY = 4;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Test
+    void dailyTotalsStayFlatAsHistoryGrows() {
+        Map<Integer, double[]> results = new LinkedHashMap<>();
+
+        for (int historySize : HISTORY_SIZES) {
+            long userId = seedUser(historySize);
+            LocalDate target = LocalDate.of(2020, 1, 1).plusDays(historySize / MEALS_PER_DAY / 2);
+
+            double[] mealLatency = measure(() -> mealRepository.getTotalCaloriesByUserIdAndDate(userId, target));
+            double[] workoutLatency = measure(() -> workoutRepository.getTotalCaloriesBurnedByUserIdAndDate(userId, target));
+
+            results.put(historySize, new double[]{mealLatency[0], mealLatency[1], workoutLatency[0], workoutLatency[1]});
+        }
+
+        System.out.println("history rows | meal p50 (us) | meal p99 (us) | workout p50 (us) | workout p99 (us)");
+        results.forEach((size, r) -> System.out.printf("%12d | %13.1f | %13.1f | %16.1f | %16.1f%n",
+                size, r[0], r[1], r[2], r[3]));
+
+        // 기록이 100배 늘어도 중앙값이 선형으로 늘지 않아야 한다 (여유 있게 5배 + 0.5ms 이내)
+        double smallest = results.get(HISTORY_SIZES[0])[0];
+        double largest = results.get(HISTORY_SIZES[HISTORY_SIZES.length - 1])[0];
+        assertThat(largest).isLessThan(smallest * 5 + 500);
+    }
+
+    private double[] measure(Runnable call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return new double[]{
+                samples[ITERATIONS / 2] / 1_000.0,
+                samples[(int) (ITERATIONS * 0.99)] / 1_000.0
+        };
+    }
+
+    // 사용자 1명과 historySize 건의 식사, 그 절반의 운동 기록을 JDBC 배치로 적재
+    private long seedUser(int historySize) {
+        String name = "bench" + historySize;
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO users (username, email, password, created_at) VALUES (?, ?, ?, ?)",
+                name, name + "@bench.local", "x", Timestamp.valueOf(now));
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, name);
+
+        LocalDate firstDay = LocalDate.of(2020, 1, 1);
+        List<Object[]> meals = new ArrayList<>(historySize);
+        List<Object[]> workouts = new ArrayList<>(historySize / 2);
+        for (int i = 0; i < historySize; i++) {
+            LocalDate day = firstDay.plusDays(i / MEALS_PER_DAY);
+            LocalDateTime time = day.atTime(7 + (i % MEALS_PER_DAY) * 4, 0);
+            meals.add(new Object[]{"food" + (i % 50), 300 + i % 200, 1, "meal", Date.valueOf(day),
+                    Timestamp.valueOf(time), Timestamp.valueOf(now), userId});
+            if (i % 2 == 0) {
+                workouts.add(new Object[]{"run", "cardio", 30, 250 + i % 100, Date.valueOf(day),
+                        Timestamp.valueOf(time), Timestamp.valueOf(now), userId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meals (id, food_name, calories, quantity, meal_type, meal_date, meal_time, created_at, user_id) "
+                + "VALUES (NEXT VALUE FOR meals_seq, ?, ?, ?, ?, ?, ?, ?, ?)", meals);
+        jdbcTemplate.batchUpdate("INSERT INTO workouts (id, exercise_name, exercise_type, duration, calories_burned, workout_date, workout_time, created_at, user_id) "
+                + "VALUES (NEXT VALUE FOR workouts_seq, ?, ?, ?, ?, ?, ?, ?, ?)", workouts);
+        return userId;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.meal_mate.benchmark;
+
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.repository.UserRepository;
+import com.example.meal_mate.service.DataImportService;
+import com.example.meal_mate.dto.importer.ImportReportDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10만 행 CSV 가져오기 처리량 측정
+ * 파일은 임시 파일로 만들어 스트림으로 넘기므로 측정 중 파일 전체가 메모리에 올라가지 않는다.
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class CsvImportBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private DataImportService dataImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void imports100kRowsInSeconds() throws Exception {
+        Long userId = userRepository.save(User.builder()
+                .username("import-bench")
+                .email("import-bench@bench.local")
+                .password("x")
+                .nickname("import-bench")
+                .build()).getId();
+
+        Path file = Files.createTempFile("meal-mate-import", ".csv");
+        try {
+            writeCsv(file);
+
+            long start = System.nanoTime();
+            ImportReportDto report;
+            try (InputStream in = Files.newInputStream(file)) {
+                report = dataImportService.importCsv(userId, in, null);
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.printf("rows: %d | file: %.1f MB | %.2f s | %.0f rows/s | chunks: %d%n",
+                    ROWS, Files.size(file) / 1024.0 / 1024.0, seconds, ROWS / seconds, report.getCommittedChunks());
+
+            assertThat(report.getFailedRows()).isZero();
+            assertThat(report.getImportedMeals() + report.getImportedWorkouts()).isEqualTo(ROWS);
+            assertThat(seconds).isLessThan(60);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // 식사 4 : 운동 1 비율, 약 3년치
+    private void writeCsv(Path file) throws Exception {
+        LocalDate firstDay = LocalDate.of(2022, 1, 1);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("record_type,date,time,name,meal_type,calories,protein,carbs,fat,quantity,unit,duration,calories_burned,memo\n");
+            for (int i = 0; i < ROWS; i++) {
+                LocalDate day = firstDay.plusDays(i / 100);
+                if (i % 5 == 4) {
+                    writer.write("workout," + day + "," + day + "T18:00,run,,,,,,,,30," + (200 + i % 100) + ",\n");
+                } else {
+                    writer.write("meal," + day + "," + day + "T12:00,food" + (i % 50) + ",lunch," + (300 + i % 200)
+                            + ",20.5,40,10,1,g,,,\n");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.meal_mate.benchmark;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 합성 데이터(SyntheticDataGenerator) 위에서 식사/운동 API 의 p99 지연시간 예산을 확인하는 성능 테스트
+ * 매 요청마다 임의의 (사용자, 날짜) 를 골라 캐시 적중에 기대지 않는 지연시간을 잰다.
+ * 예산은 -Dperf.scale=large (식사 약 1천만 행) 기준이며, 작은 규모에서는 여유 있게 통과해야 한다.
+ *
+ * 실행: ./gradlew perfTest [-Dperf.scale=small|medium|large] [-Dperf.users=... -Dperf.days=...]
+ */
+@Tag("perf")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndToEndPerformanceTest {
+
+    private static final int WARMUP = 300;
+    private static final int SAMPLES = 2_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SyntheticDataGenerator.Dataset dataset;
+    private final List<String> report = new ArrayList<>();
+
+    @BeforeAll
+    void loadDataset() {
+        dataset = new SyntheticDataGenerator(jdbcTemplate)
+                .generate(SyntheticDataGenerator.Scale.fromSystemProperties(), "perf-");
+        System.out.printf("dataset %s: %d users, %d meals, %d workouts (load %.1f s)%n",
+                dataset.scale(), dataset.userIds().length, dataset.meals(), dataset.workouts(), dataset.loadSeconds());
+    }
+
+    @Test
+    void endpointsMeetLatencyBudgets() throws Exception {
+        SoftAssertions budgets = new SoftAssertions();
+
+        // 일일 합계 (대시보드)
+        check(budgets, "meal daily calories", 20, day ->
+                get("/api/meals/user/{userId}/date/{date}/calories", day.userId(), day.date()));
+        check(budgets, "workout daily calories", 20, day ->
+                get("/api/workouts/user/{userId}/date/{date}/calories", day.userId(), day.date()));
+        check(budgets, "workout daily duration", 20, day ->
+                get("/api/workouts/user/{userId}/date/{date}/duration", day.userId(), day.date()));
+
+        // 하루 대시보드 (프로필/식사/운동 동시 조회) - 가장 느린 단일 조회(하루 목록)와 같은 예산
+        check(budgets, "daily dashboard", 25, day ->
+                get("/api/dashboard/{userId}/{date}", day.userId(), day.date()));
+
+        // 하루 목록 / 기록 첫 페이지
+        check(budgets, "meals by date", 25, day ->
+                get("/api/meals/user/{userId}/date/{date}", day.userId(), day.date()));
+        check(budgets, "workouts by date", 25, day ->
+                get("/api/workouts/user/{userId}/date/{date}", day.userId(), day.date()));
+        check(budgets, "meal history page", 40, day ->
+                get("/api/meals/user/{userId}", day.userId()));
+        check(budgets, "workout history page", 40, day ->
+                get("/api/workouts/user/{userId}", day.userId()));
+
+        // 30일 평균 (daily_summary)
+        check(budgets, "meal 30-day average", 25, day ->
+                get("/api/meals/user/{userId}/average-calories", day.userId())
+                        .param("startDate", day.date().minusDays(29).toString())
+                        .param("endDate", day.date().toString()));
+        check(budgets, "workout 30-day average", 25, day ->
+                get("/api/workouts/user/{userId}/average-calories", day.userId())
+                        .param("startDate", day.date().minusDays(29).toString())
+                        .param("endDate", day.date().toString()));
+
+        // 1년 추이 (daily_summary 범위 조회 한 번 + 윈도 함수 이동 평균)
+        check(budgets, "one-year trend", 50, day ->
+                get("/api/summaries/user/{userId}/trend", day.userId())
+                        .param("startDate", day.date().minusDays(364).toString())
+                        .param("endDate", day.date().toString()));
+
+        // 쓰기 (요약 upsert + 캐시 무효화 포함)
+        check(budgets, "create meal", 40, day -> post("/api/meals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"userId":%d,"foodName":"perf","calories":420,"protein":20.5,"carbs":50.0,"fat":12.0,"quantity":1,"mealType":"lunch","mealDate":"%s"}"""
+                        .formatted(day.userId(), day.date())));
+
+        System.out.println("endpoint                 | budget p99 | p50 (ms) | p99 (ms)");
+        report.forEach(System.out::println);
+        budgets.assertAll();
+    }
+
+    private void check(SoftAssertions budgets, String name, double p99BudgetMillis,
+                       Function<UserDay, RequestBuilder> request) throws Exception {
+        Random random = new Random(name.hashCode());
+        for (int i = 0; i < WARMUP; i++) {
+            perform(request.apply(sample(random)));
+        }
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            RequestBuilder builder = request.apply(sample(random));
+            long start = System.nanoTime();
+            perform(builder);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double p50 = samples[SAMPLES / 2] / 1_000_000.0;
+        double p99 = samples[(int) (SAMPLES * 0.99)] / 1_000_000.0;
+
+        report.add(String.format("%-24s | %7.0f ms | %8.2f | %8.2f", name, p99BudgetMillis, p50, p99));
+        budgets.assertThat(p99).as("%s p99 (ms)", name).isLessThan(p99BudgetMillis);
+    }
+
+    private void perform(RequestBuilder builder) throws Exception {
+        int status = mockMvc.perform(builder).andReturn().getResponse().getStatus();
+        if (status >= 300) {
+            throw new IllegalStateException("Unexpected status " + status);
+        }
+    }
+
+    private UserDay sample(Random random) {
+        int index = dataset.userIndex(random);
+        return new UserDay(dataset.userIds()[index], dataset.randomDay(index, random));
+    }
+
+    private record UserDay(long userId, LocalDate date) {
+    }
+}
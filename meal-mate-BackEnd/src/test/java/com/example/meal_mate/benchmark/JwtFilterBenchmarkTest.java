@@ -0,0 +1,92 @@
+package com.example.meal_mate.benchmark;
+
+import com.example.meal_mate.config.JwtAuthenticationFilter;
+import com.example.meal_mate.config.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 요청 1건당 JwtAuthenticationFilter 오버헤드 측정
+ * 이전: validateToken + getUserEmail 로 매 요청 파서를 새로 만들어 같은 토큰을 두 번 파싱/HMAC 검증
+ * 이후: 미리 만든 파서로 한 번 검증하고, 같은 토큰의 재요청은 검증 캐시에서 조회
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class JwtFilterBenchmarkTest {
+
+    private static final String SECRET = "your-secret-key-here-should-be-at-least-256-bits-long";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3_600_000, 10_000,
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, Set.of());
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void filterOverheadPerRequest() throws Exception {
+        String token = provider.createToken("bench@bench.local");
+
+        double[] before = measure(() -> legacyAuthenticate(token));
+        double[] after = measure(() -> {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+            request.addHeader("Authorization", "Bearer " + token);
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication().getName();
+        });
+
+        System.out.println("variant                         | p50 (us) | p99 (us)");
+        System.out.printf("before (parse twice, new parser) | %8.2f | %8.2f%n", before[0], before[1]);
+        System.out.printf("after  (parse once + cache)      | %8.2f | %8.2f%n", after[0], after[1]);
+
+        // 필터 전체(요청 객체 생성 포함)가 이전 검증 경로보다 빨라야 함
+        assertThat(after[0]).isLessThan(before[0]);
+    }
+
+    // 변경 전 필터의 토큰 처리 경로 (validateToken 후 getUserEmail)
+    private static String legacyAuthenticate(String token) {
+        Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token);
+        return Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody().getSubject();
+    }
+
+    private double[] measure(Call call) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(call.run()).isEqualTo("bench@bench.local");
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.run();
+            samples[i] = System.nanoTime() - start;
+            SecurityContextHolder.clearContext();
+        }
+        Arrays.sort(samples);
+        return new double[]{
+                samples[ITERATIONS / 2] / 1_000.0,
+                samples[(int) (ITERATIONS * 0.99)] / 1_000.0
+        };
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        String run() throws Exception;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.meal_mate.benchmark;
+
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 식사 조회/등록 API 를 높은 동시성으로 호출해 처리량과 지연시간을 측정하는 공통 부하 시나리오
+ * 플랫폼 스레드(PlatformThreadMealLoadBenchmarkTest)와 가상 스레드(VirtualThreadMealLoadBenchmarkTest)가
+ * 같은 Hikari 풀 크기로 이 시나리오를 실행하므로 두 결과를 나란히 비교하면 된다.
+ *
+ * 실행: ./gradlew benchmark --tests '*MealLoadBenchmark*'
+ */
+@Tag("benchmark")
+abstract class MealEndpointLoadBenchmark {
+
+    static final String POOL_PROPERTIES = "spring.datasource.hikari.maximum-pool-size=20";
+
+    private static final int CONCURRENCY = 200;
+    private static final int REQUESTS = 6_000;
+    private static final int USERS = 50;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    abstract String variant();
+
+    @Test
+    void mealReadWriteUnderHighConcurrency() throws Exception {
+        long[] userIds = seedUsers(variant());
+
+        // 워밍업 (JIT, 커넥션 풀)
+        run(userIds, REQUESTS / 10);
+        Result result = run(userIds, REQUESTS);
+
+        System.out.printf("%-8s | concurrency %d | %6.0f req/s | read p50 %7.1f ms p99 %7.1f ms | write p50 %7.1f ms p99 %7.1f ms | errors %d%n",
+                variant(), CONCURRENCY, result.throughput(),
+                result.read()[0], result.read()[1], result.write()[0], result.write()[1], result.errors());
+
+        assertThat(result.errors()).isZero();
+    }
+
+    private Result run(long[] userIds, int requests) throws Exception {
+        long[] reads = new long[requests / 2];
+        long[] writes = new long[requests - reads.length];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(CONCURRENCY);
+            for (int c = 0; c < CONCURRENCY; c++) {
+                futures.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        long userId = userIds[i % userIds.length];
+                        LocalDate day = FIRST_DAY.plusDays(i % 30);
+                        boolean read = i % 2 == 0;
+
+                        long t0 = System.nanoTime();
+                        int status = read ? get(userId, day) : post(userId, day, i);
+                        long elapsed = System.nanoTime() - t0;
+
+                        if (read) {
+                            reads[i / 2] = elapsed;
+                        } else {
+                            writes[i / 2] = elapsed;
+                        }
+                        if (status >= 300) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        return new Result(requests / seconds, percentiles(reads), percentiles(writes), errors.get());
+    }
+
+    private int get(long userId, LocalDate day) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/meals/user/" + userId + "/date/" + day)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int post(long userId, LocalDate day, int i) throws Exception {
+        String body = """
+                {"userId":%d,"foodName":"food%d","calories":%d,"quantity":1,"mealType":"lunch","mealDate":"%s"}"""
+                .formatted(userId, i % 50, 300 + i % 200, day);
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/meals"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private long[] seedUsers(String prefix) {
+        long[] ids = new long[USERS];
+        for (int u = 0; u < USERS; u++) {
+            String name = prefix + "-load-" + u;
+            ids[u] = userRepository.save(User.builder()
+                    .username(name)
+                    .email(name + "@bench.local")
+                    .password("x")
+                    .nickname(name)
+                    .build()).getId();
+        }
+        return ids;
+    }
+
+    private static double[] percentiles(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return new double[]{
+                sorted[sorted.length / 2] / 1_000_000.0,
+                sorted[(int) (sorted.length * 0.99)] / 1_000_000.0
+        };
+    }
+
+    private record Result(double throughput, double[] read, double[] write, int errors) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.meal_mate.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 기본 모드: Tomcat 플랫폼 스레드 풀(최대 200)로 요청 처리
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = MealEndpointLoadBenchmark.POOL_PROPERTIES)
+@ActiveProfiles("test")
+class PlatformThreadMealLoadBenchmarkTest extends MealEndpointLoadBenchmark {
+
+    @Override
+    String variant() {
+        return "platform";
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.meal_mate.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 성능 테스트용 합성 데이터 적재기 (users / meals / workouts)
+ * JPA 를 거치지 않고 JDBC 배치로 바로 넣으며, 같은 Scale 이면 항상 같은 데이터가 만들어진다 (고정 시드).
+ *
+ * 사용자마다 가입일이 기간 안에 고르게 흩어져 있고, 가입 이후 activeDayRatio 확률로 기록하는 날에
+ * 끼니 2~5건(mealType 4종)과 운동 0~2건(exerciseType 4종)을 남긴다. daily_summary 도 함께 채운다.
+ * 식사 행 수는 대략 users * days / 2 * activeDayRatio * 3.5 이다.
+ *
+ * 규모는 시스템 속성으로 조정한다 (./gradlew perfTest -Dperf.scale=large 또는 -Dperf.users=... 개별 지정).
+ */
+public class SyntheticDataGenerator {
+
+    public static final LocalDate LAST_DAY = LocalDate.of(2025, 6, 30);
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final long SEED = 20250630L;
+
+    private static final String[] MEAL_TYPES = {"breakfast", "lunch", "dinner", "snack"};
+    private static final int[][] MEAL_HOURS = {{7, 9}, {11, 13}, {18, 20}, {15, 22}};
+    private static final String[][] FOODS = {
+            {"oatmeal", "toast", "yogurt", "eggs", "bagel"},
+            {"bibimbap", "kimbap", "salad", "sandwich", "ramen"},
+            {"bulgogi", "salmon", "pasta", "chicken breast", "tofu stew"},
+            {"banana", "almonds", "protein bar", "apple", "latte"}
+    };
+    private static final String[] EXERCISE_TYPES = {"cardio", "strength", "flexibility", "sports"};
+    private static final String[][] EXERCISES = {
+            {"running", "cycling", "swimming", "walking"},
+            {"squat", "bench press", "deadlift", "push up"},
+            {"yoga", "pilates", "stretching"},
+            {"soccer", "basketball", "tennis", "badminton"}
+    };
+
+    public record Scale(int users, int days, double activeDayRatio) {
+
+        public static Scale fromSystemProperties() {
+            Scale preset = switch (System.getProperty("perf.scale", "small")) {
+                // 약 1천만 식사 행 (10만 명, 3년)
+                case "large" -> new Scale(100_000, 1_095, 0.06);
+                case "medium" -> new Scale(20_000, 730, 0.1);
+                default -> new Scale(2_000, 365, 0.5);
+            };
+            return new Scale(
+                    Integer.getInteger("perf.users", preset.users()),
+                    Integer.getInteger("perf.days", preset.days()),
+                    Double.parseDouble(System.getProperty("perf.active-day-ratio",
+                            String.valueOf(preset.activeDayRatio()))));
+        }
+    }
+
+    /**
+     * 적재 결과. firstDays[i] 는 userIds[i] 사용자의 첫 기록 가능일 (조회 대상 날짜 샘플링에 사용)
+     */
+    public record Dataset(Scale scale, long[] userIds, LocalDate[] firstDays, long meals, long workouts,
+                          double loadSeconds) {
+
+        public int userIndex(Random random) {
+            return random.nextInt(userIds.length);
+        }
+
+        public LocalDate randomDay(int userIndex, Random random) {
+            LocalDate first = firstDays[userIndex];
+            long span = LAST_DAY.toEpochDay() - first.toEpochDay();
+            return first.plusDays(span <= 0 ? 0 : random.nextLong(span + 1));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Dataset generate(Scale scale, String usernamePrefix) {
+        long start = System.nanoTime();
+        Random random = new Random(SEED);
+        LocalDate firstDay = LAST_DAY.minusDays(scale.days() - 1L);
+        Timestamp createdAt = Timestamp.valueOf(LAST_DAY.atTime(12, 0));
+
+        long[] userIds = insertUsers(scale.users(), usernamePrefix, random, createdAt);
+        LocalDate[] firstDays = new LocalDate[userIds.length];
+
+        List<Object[]> meals = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> workouts = new ArrayList<>(BATCH_SIZE);
+        long mealCount = 0;
+        long workoutCount = 0;
+
+        for (int u = 0; u < userIds.length; u++) {
+            LocalDate signup = firstDay.plusDays(random.nextInt(scale.days()));
+            firstDays[u] = signup;
+
+            for (LocalDate day = signup; !day.isAfter(LAST_DAY); day = day.plusDays(1)) {
+                if (random.nextDouble() >= scale.activeDayRatio()) {
+                    continue;
+                }
+                int mealsToday = 2 + random.nextInt(4);
+                for (int m = 0; m < mealsToday; m++) {
+                    meals.add(meal(userIds[u], day, m % MEAL_TYPES.length, random, createdAt));
+                }
+                int workoutsToday = random.nextInt(3);
+                for (int w = 0; w < workoutsToday; w++) {
+                    workouts.add(workout(userIds[u], day, random, createdAt));
+                }
+                mealCount += mealsToday;
+                workoutCount += workoutsToday;
+
+                if (meals.size() >= BATCH_SIZE) {
+                    flushMeals(meals);
+                }
+                if (workouts.size() >= BATCH_SIZE) {
+                    flushWorkouts(workouts);
+                }
+            }
+        }
+        flushMeals(meals);
+        flushWorkouts(workouts);
+        rebuildDailySummaries();
+
+        return new Dataset(scale, userIds, firstDays, mealCount, workoutCount,
+                (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private long[] insertUsers(int count, String prefix, Random random, Timestamp createdAt) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String name = prefix + i;
+            boolean male = random.nextBoolean();
+            rows.add(new Object[]{name, name + "@perf.local", "x", name,
+                    18 + random.nextInt(50), male ? "male" : "female",
+                    (male ? 165.0 : 152.0) + random.nextInt(25), (male ? 60.0 : 45.0) + random.nextInt(40),
+                    1_600 + random.nextInt(12) * 100, createdAt});
+            if (rows.size() == BATCH_SIZE) {
+                batchInsertUsers(rows);
+            }
+        }
+        batchInsertUsers(rows);
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE username LIKE ? ORDER BY id", Long.class, prefix + "%");
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void batchInsertUsers(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, email, password, nickname, age, gender, height, weight, "
+                + "daily_calorie_goal, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private Object[] meal(long userId, LocalDate day, int type, Random random, Timestamp createdAt) {
+        int[] hours = MEAL_HOURS[type];
+        String[] foods = FOODS[type];
+        int calories = type == 3 ? 80 + random.nextInt(250) : 350 + random.nextInt(550);
+        LocalDateTime time = day.atTime(hours[0] + random.nextInt(hours[1] - hours[0] + 1), random.nextInt(60));
+        return new Object[]{foods[random.nextInt(foods.length)], calories,
+                round(calories * 0.15 / 4), round(calories * 0.55 / 4), round(calories * 0.30 / 9),
+                round(random.nextDouble() * 8), round(random.nextDouble() * 25), round(200 + random.nextDouble() * 1_200),
+                1, MEAL_TYPES[type], Date.valueOf(day), Timestamp.valueOf(time), createdAt, userId};
+    }
+
+    private Object[] workout(long userId, LocalDate day, Random random, Timestamp createdAt) {
+        int type = random.nextInt(EXERCISE_TYPES.length);
+        String[] names = EXERCISES[type];
+        int duration = 15 + random.nextInt(76);
+        LocalDateTime time = day.atTime(6 + random.nextInt(16), random.nextInt(60));
+        return new Object[]{names[random.nextInt(names.length)], EXERCISE_TYPES[type], duration,
+                duration * (3 + random.nextInt(9)), Date.valueOf(day), Timestamp.valueOf(time), createdAt, userId};
+    }
+
+    // id 는 Hibernate 와 같은 시퀀스에서 받아 이후 애플리케이션 insert 와 충돌하지 않게 함
+    private void flushMeals(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meals (id, food_name, calories, protein, carbs, fat, fiber, sugar, sodium, "
+                + "quantity, meal_type, meal_date, meal_time, created_at, user_id) "
+                + "VALUES (NEXT VALUE FOR meals_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private void flushWorkouts(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO workouts (id, exercise_name, exercise_type, duration, calories_burned, "
+                + "workout_date, workout_time, created_at, user_id) "
+                + "VALUES (NEXT VALUE FOR workouts_seq, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    // DailySummaryRepository.rebuildByUserId 와 같은 집계를 전체 사용자에 대해 한 번에 수행
+    // (사용자별 재계산은 10만 명 규모에서 너무 오래 걸림)
+    private void rebuildDailySummaries() {
+        jdbcTemplate.update("INSERT INTO daily_summary (user_id, summary_date, calories_in, protein, carbs, fat, meal_count, "
+                + "calories_burned, workout_duration, workout_count) "
+                + "SELECT raw.user_id, raw.summary_date, SUM(raw.calories_in), SUM(raw.protein), SUM(raw.carbs), SUM(raw.fat), "
+                + "SUM(raw.meal_count), SUM(raw.calories_burned), SUM(raw.workout_duration), SUM(raw.workout_count) FROM ("
+                + "  SELECT m.user_id, m.meal_date AS summary_date, m.calories AS calories_in, COALESCE(m.protein, 0) AS protein, "
+                + "  COALESCE(m.carbs, 0) AS carbs, COALESCE(m.fat, 0) AS fat, 1 AS meal_count, "
+                + "  0 AS calories_burned, 0 AS workout_duration, 0 AS workout_count FROM meals m "
+                + "  UNION ALL "
+                + "  SELECT w.user_id, w.workout_date, 0, 0, 0, 0, 0, w.calories_burned, w.duration, 1 FROM workouts w"
+                + ") raw GROUP BY raw.user_id, raw.summary_date");
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.meal_mate.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 가상 스레드 모드: virtual-threads 프로필 (Java 21 이상에서만 실행)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = MealEndpointLoadBenchmark.POOL_PROPERTIES)
+@ActiveProfiles({"test", "virtual-threads"})
+class VirtualThreadMealLoadBenchmarkTest extends MealEndpointLoadBenchmark {
+
+    @Override
+    String variant() {
+        return "virtual";
+    }
+}
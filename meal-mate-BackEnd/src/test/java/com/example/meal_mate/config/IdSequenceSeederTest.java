@@ -0,0 +1,58 @@
+package com.example.meal_mate.config;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.entity.Meal;
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * id 시퀀스 보정 - 기존 행의 id 가 시퀀스보다 앞서 있으면 MAX(id) + allocationSize 위로 끌어올리는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IdSequenceSeederTest {
+
+    @Autowired
+    private IdSequenceSeeder idSequenceSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    @Test
+    void raisesSequenceAboveExistingIds() {
+        User user = userRepository.save(TestFixtures.user("seq").build());
+        Long id = mealRepository.save(Meal.builder()
+                .foodName("legacy")
+                .calories(100)
+                .quantity(1)
+                .mealType("lunch")
+                .mealDate(LocalDate.of(2025, 7, 9))
+                .user(user)
+                .build()).getId();
+
+        // IDENTITY 시절에 들어간 행처럼 시퀀스보다 훨씬 큰 id 로 옮김
+        long legacyId = id + 100_000;
+        jdbcTemplate.update("UPDATE meals SET id = ? WHERE id = ?", legacyId, id);
+
+        idSequenceSeeder.seed();
+
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR meals_seq", Long.class);
+        assertThat(next).isGreaterThanOrEqualTo(legacyId + 50);
+    }
+}
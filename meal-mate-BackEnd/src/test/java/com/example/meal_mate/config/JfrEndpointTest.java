@@ -0,0 +1,106 @@
+package com.example.meal_mate.config;
+
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.repository.UserRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * /actuator/jfr 가 관리자에게만 열리고, 기록 중 처리한 요청의 서비스/JWT 이벤트가 .jfr 에 남는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.server.port=0",
+        "meal-mate.security.admin-emails=admin@test.local"
+})
+@ActiveProfiles("test")
+class JfrEndpointTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @Test
+    void rejectsNonAdminUsers() {
+        String url = "http://127.0.0.1:" + managementPort + "/actuator/jfr?duration=1s";
+
+        assertThatThrownBy(() -> restTemplate.getForObject(url, byte[].class))
+                .isInstanceOf(HttpClientErrorException.Forbidden.class);
+        assertThatThrownBy(() -> restTemplate.exchange(url, HttpMethod.GET,
+                authorized("user@test.local"), byte[].class))
+                .isInstanceOf(HttpClientErrorException.Forbidden.class);
+    }
+
+    @Test
+    void recordsServiceAndJwtEventsForRequestsDuringTheRecording() throws Exception {
+        Long userId = userRepository.save(User.builder()
+                .username("jfr")
+                .email("jfr@test.local")
+                .password("x")
+                .nickname("jfr")
+                .build()).getId();
+        HttpEntity<Void> admin = authorized("admin@test.local");
+
+        CompletableFuture<byte[]> recording = CompletableFuture.supplyAsync(() -> restTemplate.exchange(
+                "http://127.0.0.1:" + managementPort + "/actuator/jfr?duration=2s&profile=profile",
+                HttpMethod.GET, admin, byte[].class).getBody());
+        Thread.sleep(500);
+        for (int i = 0; i < 5; i++) {
+            restTemplate.exchange("http://localhost:" + port + "/api/meals/user/{userId}/date/{date}",
+                    HttpMethod.GET, admin, String.class, userId, LocalDate.of(2025, 7, 9));
+        }
+
+        Path file = Files.createTempFile("jfr-endpoint-test", ".jfr");
+        try {
+            Files.write(file, recording.get());
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            assertThat(events).filteredOn(e -> e.getEventType().getName().equals("com.example.meal_mate.ServiceMethod"))
+                    .anySatisfy(e -> {
+                        assertThat(e.getString("service")).isEqualTo("MealService");
+                        assertThat(e.getString("method")).isEqualTo("getMealsByUserIdAndDate");
+                        assertThat(e.getString("endpoint")).isEqualTo("MealController.getMealsByUserIdAndDate");
+                    });
+            assertThat(events).filteredOn(e -> e.getEventType().getName().equals("com.example.meal_mate.JwtAuthentication"))
+                    .anySatisfy(e -> assertThat(e.getBoolean("authenticated")).isTrue());
+            assertThat(events).anySatisfy(e -> assertThat(e.getEventType().getName()).isEqualTo("jdk.ExecutionSample"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private HttpEntity<Void> authorized(String email) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtTokenProvider.createToken(email));
+        return new HttpEntity<>(headers);
+    }
+}
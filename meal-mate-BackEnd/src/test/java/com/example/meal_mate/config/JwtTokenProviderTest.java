@@ -0,0 +1,66 @@
+package com.example.meal_mate.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증 캐시가 있어도 위조/만료 토큰이 통과하지 않는지 확인
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "your-secret-key-here-should-be-at-least-256-bits-long";
+
+    private JwtTokenProvider provider(long validityMillis) {
+        return new JwtTokenProvider(SECRET, validityMillis, 100,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void acceptsTokensSignedWithTheConfiguredSecretString() {
+        // 기존 signWith(HS256, String) 으로 발급된 토큰도 그대로 유효해야 함
+        String legacy = Jwts.builder()
+                .setSubject("legacy@test.local")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+
+        JwtTokenProvider provider = provider(60_000);
+        assertThat(provider.getUserEmail(legacy)).isEqualTo("legacy@test.local");
+        assertThat(provider.getUserEmail(provider.createToken("new@test.local"))).isEqualTo("new@test.local");
+    }
+
+    @Test
+    void rejectsTamperedTokenEvenAfterOriginalIsCached() {
+        JwtTokenProvider provider = provider(60_000);
+        String token = provider.createToken("user@test.local");
+        assertThat(provider.parseClaims(token)).isNotNull();
+
+        // 서명 첫 글자를 바꿈 (마지막 글자는 패딩 비트만 바뀌어 같은 서명으로 디코딩될 수 있음)
+        int signature = token.lastIndexOf('.') + 1;
+        String tampered = token.substring(0, signature)
+                + (token.charAt(signature) == 'A' ? 'B' : 'A') + token.substring(signature + 1);
+        assertThat(provider.parseClaims(tampered)).isNull();
+        assertThat(provider.validateToken("not-a-jwt")).isFalse();
+    }
+
+    @Test
+    void cachedTokenStopsValidatingAtExpiry() throws InterruptedException {
+        JwtTokenProvider provider = provider(1_000);
+        String token = provider.createToken("short@test.local");
+
+        Claims claims = provider.parseClaims(token);
+        assertThat(claims).isNotNull();
+        assertThat(provider.parseClaims(token)).isSameAs(claims); // 두 번째는 캐시 적중
+
+        Thread.sleep(claims.getExpiration().getTime() - System.currentTimeMillis() + 50);
+        assertThat(provider.parseClaims(token)).isNull();
+    }
+}
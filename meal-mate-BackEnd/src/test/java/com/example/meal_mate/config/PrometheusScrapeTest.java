@@ -0,0 +1,77 @@
+package com.example.meal_mate.config;
+
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리 포트의 /actuator/prometheus 를 실제로 수집해 엔드포인트/Hibernate/Hikari/JVM 메트릭이 노출되는지 확인
+ */
+// 테스트에서는 기본적으로 메트릭 내보내기(Prometheus 레지스트리)가 꺼지므로 명시적으로 켠다
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.server.port=0")
+@ActiveProfiles("test")
+class PrometheusScrapeTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @Test
+    void exposesApplicationAndInfrastructureMetrics() {
+        Long userId = userRepository.save(User.builder()
+                .username("scrape")
+                .email("scrape@test.local")
+                .password("x")
+                .nickname("scrape")
+                .build()).getId();
+        restTemplate.getForEntity("http://localhost:{port}/api/meals/user/{userId}/date/{date}",
+                String.class, port, userId, LocalDate.of(2025, 7, 9));
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity(
+                "http://127.0.0.1:{port}/actuator/prometheus", String.class, managementPort);
+
+        assertThat(scrape.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(scrape.getHeaders().getContentType().toString()).startsWith("text/plain");
+        assertThat(scrape.getBody())
+                // 컨트롤러 메서드별 지연시간 히스토그램
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("handler=\"MealController.getMealsByUserIdAndDate\"")
+                // 요청당 SQL 수
+                .contains("sql_statements_per_request_count{")
+                // Hibernate 통계
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_statements_total")
+                // 2차 캐시 영역별 적중(hibernate_second_level_cache_requests_total)은 영역이 생길 때만 노출됨
+                .contains("hibernate_cache_query_requests_total")
+                // HikariCP
+                .contains("hikaricp_connections_active")
+                .contains("hikaricp_connections_acquire_seconds_bucket")
+                // JVM GC / 할당
+                .contains("jvm_gc_memory_allocated_bytes_total")
+                // jvm_gc_pause_seconds 는 첫 GC 가 일어난 뒤에야 등록되므로 항상 있는 게이지로 확인
+                .contains("jvm_gc_live_data_size_bytes")
+                .contains("application=\"meal-mate\"");
+    }
+}
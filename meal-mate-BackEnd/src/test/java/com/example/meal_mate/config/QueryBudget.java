@@ -0,0 +1,26 @@
+package com.example.meal_mate.config;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 본문(@BeforeEach 이후)에서 실행되는 SQL 수의 상한
+ * 본문에서 MockMvc 로 엔드포인트를 호출하면 그 요청의 SQL 이 모두 집계되며,
+ * 상한을 넘거나 같은 모양의 SQL 이 repeatThreshold 번 이상 실행되면(N+1) 테스트가 실패한다.
+ * 클래스에 붙이면 모든 테스트의 기본값이 되고, 메서드에 붙인 값이 우선한다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    // 허용하는 최대 SQL 수
+    int value();
+
+    // 같은 모양의 SQL 을 이 횟수 이상 실행하면 실패 (0 이면 검사하지 않음)
+    int repeatThreshold() default 3;
+}
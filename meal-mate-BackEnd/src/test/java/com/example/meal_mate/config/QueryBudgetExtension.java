@@ -0,0 +1,53 @@
+package com.example.meal_mate.config;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @QueryBudget 의 상한을 검사하는 확장
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 SqlStatementCounter 구간 안에 요청 구간이 중첩되어 함께 집계된다.
+ * (실제 서버 포트로 보내는 요청은 다른 스레드에서 처리되어 집계되지 않음)
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementCounter.start());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementCounter.Stats stats = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), SqlStatementCounter.Stats.class);
+        if (stats == null) {
+            return;
+        }
+        SqlStatementCounter.stop(stats);
+        // 테스트 자체가 실패했으면 그 실패를 가리지 않음
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        QueryBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElseThrow();
+
+        if (budget.repeatThreshold() > 0) {
+            Map<String, Integer> repeated = stats.repeatedShapes(budget.repeatThreshold());
+            assertThat(repeated)
+                    .as("같은 모양의 SQL 이 %d번 이상 실행됨 (N+1)", budget.repeatThreshold())
+                    .isEmpty();
+        }
+        assertThat(stats.getStatements())
+                .as("SQL 실행 횟수 (QueryBudget)")
+                .isLessThanOrEqualTo(budget.value());
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.meal_mate.config;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.exception.ResourceNotFoundException;
+import com.example.meal_mate.repository.UserRepository;
+import com.example.meal_mate.service.UserService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 내장 DB 두 개(primary / replica)로 읽기-쓰기 라우팅 확인
+ * replica 는 복제가 멈춘 상태를 흉내 내기 위해 스키마만 복사하고 데이터는 테스트에서 직접 넣는다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rw_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "meal-mate.datasource.replica.jdbc-url=jdbc:h2:mem:rw_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "meal-mate.datasource.replica.username=sa",
+        "meal-mate.datasource.replica.driver-class-name=org.h2.Driver",
+        "meal-mate.datasource.read-your-writes-window=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+
+        Integer tables = replica.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = 'public' AND table_name = 'users'", Integer.class);
+        if (tables == 0) {
+            List<String> schema = primary.queryForList("SCRIPT NODATA", String.class);
+            schema.forEach(replica::execute);
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        Long userId = saveUser().getId();
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, userId)).isEqualTo(1);
+        assertThatThrownBy(() -> userService.getUserById(userId))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        replicate(userId);
+        assertThat(userService.getUserById(userId).getId()).isEqualTo(userId);
+    }
+
+    @Test
+    void recentWriterReadsOwnWritesFromPrimary() throws Exception {
+        Long userId = saveUser().getId();
+        Long otherUserId = saveUser().getId();
+        replicate(userId);
+        replicate(otherUserId);
+
+        String meal = """
+                {"userId": %d, "foodName": "bibimbap", "calories": 600, "quantity": 1,
+                 "mealType": "lunch", "mealDate": "%s", "mealTime": "%sT12:00:00"}
+                """.formatted(userId, DAY, DAY);
+        String created = mockMvc.perform(post("/api/meals").contentType(MediaType.APPLICATION_JSON).content(meal))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Integer mealId = JsonPath.read(created, "$.id");
+
+        // 방금 쓴 사용자는 replica 에 아직 없는 기록도 보임 (primary)
+        mockMvc.perform(get("/api/meals/user/{userId}/date/{date}", userId, DAY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        // 경로에 사용자 ID 가 없는 단건 조회도 방금 변경한 기록이면 소유자의 쓰기로 보고 primary
+        mockMvc.perform(put("/api/meals/{id}", mealId).contentType(MediaType.APPLICATION_JSON)
+                        .content(meal.replace("bibimbap", "naengmyeon")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/meals/{id}", mealId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foodName").value("naengmyeon"));
+
+        // 쓰기를 하지 않은 사용자의 읽기는 그대로 replica (primary 에만 있는 기록은 안 보임)
+        primary.update("INSERT INTO meals (id, food_name, calories, quantity, meal_type, meal_date, created_at, user_id) "
+                + "VALUES (NEXT VALUE FOR meals_seq, 'x', 1, 1, 'lunch', ?, CURRENT_TIMESTAMP, ?)", DAY, otherUserId);
+        mockMvc.perform(get("/api/meals/user/{userId}/date/{date}", otherUserId, DAY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    private User saveUser() {
+        return userRepository.save(TestFixtures.user("rw").build());
+    }
+
+    // 복제 흉내 - primary 의 사용자 행을 replica 로 복사
+    private void replicate(Long userId) {
+        primary.query("SELECT id, username, email, password, nickname, created_at FROM users WHERE id = ?",
+                rs -> {
+                    replica.update("INSERT INTO users (id, username, email, password, nickname, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                            rs.getLong("id"), rs.getString("username"), rs.getString("email"),
+                            rs.getString("password"), rs.getString("nickname"), rs.getTimestamp("created_at"));
+                }, userId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.meal_mate.config;
+
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 요청의 SQL 이 리포지토리 메서드와 함께 /actuator/slowqueries 에 집계되는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.server.port=0")
+@ActiveProfiles("test")
+class SlowQueryEndpointTest {
+
+    private static final int REQUESTS = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @Test
+    void reportsRepositoryStatementsByShape() throws Exception {
+        assertThat(dataSource).isInstanceOf(TimingDataSource.class);
+        restTemplate.delete("http://127.0.0.1:{port}/actuator/slowqueries", managementPort);
+
+        Long userId = userRepository.save(User.builder()
+                .username("slow")
+                .email("slow@test.local")
+                .password("x")
+                .nickname("slow")
+                .build()).getId();
+        for (int i = 0; i < REQUESTS; i++) {
+            restTemplate.getForEntity("http://localhost:{port}/api/meals/user/{userId}/date/{date}",
+                    String.class, port, userId, LocalDate.of(2025, 7, 1).plusDays(i));
+        }
+
+        JsonNode report = objectMapper.readTree(restTemplate.getForObject(
+                "http://127.0.0.1:{port}/actuator/slowqueries?repository=MealRepository&limit=3",
+                String.class, managementPort));
+
+        JsonNode frequent = report.get("mostFrequent");
+        assertThat(frequent).isNotEmpty().hasSizeLessThanOrEqualTo(3);
+        JsonNode byDate = frequent.get(0);
+        assertThat(byDate.get("count").asLong()).isEqualTo(REQUESTS);
+        assertThat(byDate.get("sql").asText()).startsWith("select").contains("meals");
+        assertThat(byDate.get("repositoryMethods").toString()).contains("MealRepository.findResponsesByUserIdAndMealDate");
+        assertThat(byDate.get("maxMs").asDouble()).isPositive();
+        assertThat(byDate.get("p99Ms").asDouble()).isPositive().isLessThanOrEqualTo(byDate.get("maxMs").asDouble());
+        assertThat(report.get("slowest")).isNotEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.meal_mate.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+    @Test
+    void groupsStatementsThatDifferOnlyInLiteralsAndInListLength() {
+        SqlStatementCounter.Stats stats = SqlStatementCounter.start();
+        try {
+            inspector.inspect("select u.id from users u where u.id=?");
+            inspector.inspect("select u.id from users u where u.id=?");
+            inspector.inspect("select u.id\n  from users u where u.id=42");
+            inspector.inspect("select m.id from meals m where m.user_id in (?, ?)");
+            inspector.inspect("select m.id from meals m where m.user_id in (?,?,?,?)");
+        } finally {
+            SqlStatementCounter.stop(stats);
+        }
+
+        assertThat(stats.getStatements()).isEqualTo(5);
+        assertThat(stats.repeatedShapes(3)).containsOnlyKeys("select u.id from users u where u.id=?");
+        assertThat(stats.repeatedShapes(2)).hasSize(2);
+    }
+
+    @Test
+    void nestedScopesBothCountAndNothingIsCountedOutsideAScope() {
+        inspector.inspect("select 1");
+
+        SqlStatementCounter.Stats outer = SqlStatementCounter.start();
+        inspector.inspect("select 1");
+        SqlStatementCounter.Stats inner = SqlStatementCounter.start();
+        inspector.inspect("select 2");
+        SqlStatementCounter.stop(inner);
+        SqlStatementCounter.stop(outer);
+
+        assertThat(outer.getStatements()).isEqualTo(2);
+        assertThat(inner.getStatements()).isEqualTo(1);
+        assertThat(SqlStatementCounter.current()).isZero();
+    }
+}
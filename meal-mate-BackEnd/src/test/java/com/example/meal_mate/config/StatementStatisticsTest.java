@@ -0,0 +1,49 @@
+package com.example.meal_mate.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementStatisticsTest {
+
+    @Test
+    void bucketsCoverEachMicrosecondWithinTheirBounds() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int bucket = StatementStatistics.bucketOf(micros);
+            assertThat(micros).isLessThan(StatementStatistics.upperBoundMicros(bucket));
+            if (bucket > 0) {
+                assertThat(micros).isGreaterThanOrEqualTo(StatementStatistics.upperBoundMicros(bucket - 1));
+            }
+        }
+    }
+
+    @Test
+    void aggregatesLiteralVariantsIntoOneShapeWithP99() {
+        StatementStatistics statistics = new StatementStatistics(10);
+        IntStream.range(0, 100).forEach(i -> statistics.record("select * from meals where id=" + i, null, null,
+                TimeUnit.MILLISECONDS.toNanos(i < 99 ? 1 : 50)));
+        statistics.record("select * from meals where id=?", null, null, TimeUnit.MILLISECONDS.toNanos(2));
+
+        assertThat(statistics.summaries()).singleElement().satisfies(summary -> {
+            assertThat(summary.sql()).isEqualTo("select * from meals where id=?");
+            assertThat(summary.count()).isEqualTo(101);
+            assertThat(summary.maxMs()).isEqualTo(50.0);
+            // 101건 중 99번째는 2ms 이하 버킷 (버킷 폭만큼 위로 어림)
+            assertThat(summary.p99Ms()).isBetween(2.0, 2.5);
+        });
+    }
+
+    @Test
+    void overflowingShapesAreCollectedTogether() {
+        StatementStatistics statistics = new StatementStatistics(1);
+        statistics.record("select * from users", null, null, 1_000);
+        statistics.record("select * from meals", null, null, 1_000);
+        statistics.record("select * from workouts", null, null, 1_000);
+
+        assertThat(statistics.summaries()).extracting(StatementStatistics.StatementSummary::sql)
+                .containsExactlyInAnyOrder("select * from users", StatementStatistics.OTHER);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.meal_mate.controller;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.entity.Meal;
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.entity.Workout;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.UserRepository;
+import com.example.meal_mate.repository.WorkoutRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 하루 대시보드가 프로필/목록/합계/목표 대비 순 칼로리를 한 응답으로 돌려주는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DashboardControllerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Test
+    void combinesProfileRecordsAndNetCaloriesAgainstGoal() throws Exception {
+        User user = saveUser(2_000);
+        saveMeal(user, "oatmeal", 450, 8);
+        saveMeal(user, "bibimbap", 700, 12);
+        // 다른 날짜 기록은 포함되지 않아야 함
+        saveMeal(user, "pasta", 900, 19, DAY.minusDays(1));
+        workoutRepository.save(Workout.builder()
+                .exerciseName("running")
+                .exerciseType("cardio")
+                .duration(40)
+                .caloriesBurned(350)
+                .workoutDate(DAY)
+                .workoutTime(DAY.atTime(18, 0))
+                .user(user)
+                .build());
+
+        mockMvc.perform(get("/api/dashboard/{userId}/{date}", user.getId(), DAY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username").value(user.getUsername()))
+                .andExpect(jsonPath("$.meals.length()").value(2))
+                .andExpect(jsonPath("$.workouts.length()").value(1))
+                .andExpect(jsonPath("$.caloriesIn").value(1_150))
+                .andExpect(jsonPath("$.caloriesBurned").value(350))
+                .andExpect(jsonPath("$.netCalories").value(800))
+                .andExpect(jsonPath("$.workoutDuration").value(40))
+                .andExpect(jsonPath("$.dailyCalorieGoal").value(2_000))
+                .andExpect(jsonPath("$.remainingCalories").value(1_200));
+    }
+
+    @Test
+    void emptyDayWithoutGoalHasNoRemainingCalories() throws Exception {
+        User user = saveUser(null);
+
+        mockMvc.perform(get("/api/dashboard/{userId}/{date}", user.getId(), DAY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meals.length()").value(0))
+                .andExpect(jsonPath("$.netCalories").value(0))
+                .andExpect(jsonPath("$.remainingCalories").doesNotExist());
+    }
+
+    @Test
+    void unknownUserIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/dashboard/{userId}/{date}", Long.MAX_VALUE, DAY))
+                .andExpect(status().isNotFound());
+    }
+
+    private User saveUser(Integer dailyCalorieGoal) {
+        return userRepository.save(TestFixtures.user("dash")
+                .dailyCalorieGoal(dailyCalorieGoal)
+                .build());
+    }
+
+    private void saveMeal(User user, String food, int calories, int hour) {
+        saveMeal(user, food, calories, hour, DAY);
+    }
+
+    private void saveMeal(User user, String food, int calories, int hour, LocalDate day) {
+        mealRepository.save(Meal.builder()
+                .foodName(food)
+                .calories(calories)
+                .quantity(1)
+                .mealType("meal")
+                .mealDate(day)
+                .mealTime(day.atTime(hour, 0))
+                .user(user)
+                .build());
+    }
+}
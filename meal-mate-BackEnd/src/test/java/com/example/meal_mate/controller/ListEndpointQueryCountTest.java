@@ -0,0 +1,150 @@
+package com.example.meal_mate.controller;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.config.QueryBudget;
+import com.example.meal_mate.entity.Meal;
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.entity.Workout;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.UserRepository;
+import com.example.meal_mate.repository.WorkoutRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 조회 API 가 사용자 수/기록 수와 무관하게 요청당 SQL 1회로 응답하는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "meal-mate.sql.report-headers=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ListEndpointQueryCountTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+    private static final int ROWS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+    private Long mealId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(TestFixtures.user("qc").build());
+        userId = user.getId();
+
+        for (int i = 0; i < ROWS; i++) {
+            mealId = mealRepository.save(Meal.builder()
+                    .foodName("food" + i)
+                    .calories(100 + i)
+                    .quantity(1)
+                    .mealType("lunch")
+                    .mealDate(DAY)
+                    .mealTime(DAY.atTime(8 + i, 0))
+                    .user(user)
+                    .build()).getId();
+            workoutRepository.save(Workout.builder()
+                    .exerciseName("run" + i)
+                    .exerciseType("cardio")
+                    .duration(30)
+                    .caloriesBurned(200)
+                    .workoutDate(DAY)
+                    .workoutTime(DAY.atTime(18, i))
+                    .user(user)
+                    .build());
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @QueryBudget(1)
+    void mealHistoryPageUsesSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/meals/user/{userId}", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(ROWS))
+                .andExpect(jsonPath("$.content[0].userName").exists());
+
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    @QueryBudget(1)
+    void mealsByDateUsesSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/meals/user/{userId}/date/{date}", userId, DAY))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-SQL-Statements", "1"))
+                .andExpect(header().doesNotExist("X-SQL-Repeated"))
+                .andExpect(jsonPath("$.length()").value(ROWS));
+
+        assertSingleStatementWithoutEntities();
+    }
+
+    // 단건 조회는 식사 1회 + 응답의 userName 을 위한 사용자 지연 로딩 1회
+    @Test
+    @QueryBudget(2)
+    void mealDetailLoadsUserLazilyOnce() throws Exception {
+        mockMvc.perform(get("/api/meals/{id}", mealId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-SQL-Statements", "2"))
+                .andExpect(jsonPath("$.userName").exists());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void workoutHistoryPageUsesSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/workouts/user/{userId}", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(ROWS));
+
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    @QueryBudget(1)
+    void workoutsByDateUsesSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/workouts/user/{userId}/date/{date}", userId, DAY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+
+        assertSingleStatementWithoutEntities();
+    }
+
+    private void assertSingleStatementWithoutEntities() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
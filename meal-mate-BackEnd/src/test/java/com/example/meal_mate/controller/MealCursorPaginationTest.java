@@ -0,0 +1,139 @@
+package com.example.meal_mate.controller;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.entity.Meal;
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 식사 기록 커서 페이지 - 같은 식사 시간, mealTime 이 없는 구간, 마지막 페이지까지 중복/누락 없이 이어지는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MealCursorPaginationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    private Long userId;
+    private final List<Meal> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(TestFixtures.user("cp").build());
+        userId = user.getId();
+
+        // 같은 시간 6건, 서로 다른 시간 5건, 시간 없음 4건
+        for (int i = 0; i < 6; i++) {
+            saved.add(save(user, "tie" + i, DAY.atTime(12, 0)));
+        }
+        for (int i = 0; i < 5; i++) {
+            saved.add(save(user, "timed" + i, DAY.atTime(7 + i * 3, 30)));
+        }
+        for (int i = 0; i < 4; i++) {
+            saved.add(save(user, "untimed" + i, null));
+        }
+    }
+
+    @Test
+    void walksEveryPageWithoutDuplicatesOrGaps() throws Exception {
+        // 시간 내림차순, 같으면 id 내림차순, 시간 없는 기록은 id 내림차순으로 맨 뒤
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Meal::getMealTime, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(Meal::getId, Comparator.reverseOrder()))
+                .map(Meal::getId)
+                .toList();
+
+        // 3: 마지막 페이지가 남는 경우, 5: 전체가 페이지 크기로 나누어떨어지는 경우
+        for (int size : new int[]{3, 5}) {
+            List<Long> walked = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                JsonNode page = fetch(cursor, size);
+                page.get("content").forEach(meal -> walked.add(meal.get("id").asLong()));
+                assertThat(page.get("size").asInt()).isLessThanOrEqualTo(size);
+                cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+                if (cursor == null) {
+                    assertThat(page.get("nextCursor").isNull()).isTrue();
+                }
+                pages++;
+            } while (cursor != null && pages <= expected.size());
+
+            assertThat(walked).as("page size %d", size).containsExactlyElementsOf(expected);
+            assertThat(pages).isEqualTo((expected.size() + size - 1) / size);
+        }
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() throws Exception {
+        String notTimeAndId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("yesterday".getBytes(StandardCharsets.UTF_8));
+        String badTime = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("noon|12".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("%%%", notTimeAndId, badTime)) {
+            mockMvc.perform(page(cursor, 3)).andExpect(status().isBadRequest());
+        }
+    }
+
+    private JsonNode fetch(String cursor, int size) throws Exception {
+        String body = mockMvc.perform(page(cursor, size))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private MockHttpServletRequestBuilder page(String cursor, int size) {
+        MockHttpServletRequestBuilder request = get("/api/meals/user/{userId}", userId)
+                .param("size", String.valueOf(size));
+        return cursor == null ? request : request.param("cursor", cursor);
+    }
+
+    private Meal save(User user, String foodName, LocalDateTime mealTime) {
+        return mealRepository.save(Meal.builder()
+                .foodName(foodName)
+                .calories(100)
+                .quantity(1)
+                .mealType("lunch")
+                .mealDate(DAY)
+                .mealTime(mealTime)
+                .user(user)
+                .build());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.meal_mate.controller;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.entity.Meal;
+import com.example.meal_mate.entity.User;
+import com.example.meal_mate.entity.Workout;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.UserRepository;
+import com.example.meal_mate.repository.WorkoutRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 기록 내보내기 (CSV / NDJSON 스트리밍) 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class UserExportControllerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(TestFixtures.user("ex").build());
+        userId = user.getId();
+
+        mealRepository.save(Meal.builder().foodName("김치찌개, \"매운맛\"").calories(450).quantity(1)
+                .mealType("lunch").mealDate(DAY).mealTime(DAY.atTime(12, 0)).user(user).build());
+        mealRepository.save(Meal.builder().foodName("salad").calories(200).quantity(1)
+                .mealType("dinner").mealDate(DAY).mealTime(DAY.atTime(19, 0)).user(user).build());
+        workoutRepository.save(Workout.builder().exerciseName("run").exerciseType("cardio").duration(30)
+                .caloriesBurned(250).workoutDate(DAY).workoutTime(DAY.atTime(7, 0)).user(user).build());
+    }
+
+    @Test
+    void exportsCsvWithEscapedCells() throws Exception {
+        String body = export("csv");
+        String[] lines = body.split("\n");
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("\uFEFFrecord_type,id,date");
+        assertThat(lines[1]).startsWith("meal,").contains("\"김치찌개, \"\"매운맛\"\"\"");
+        assertThat(lines[3]).startsWith("workout,").contains(",30,250,");
+    }
+
+    @Test
+    void exportsNdjsonOneRecordPerLine() throws Exception {
+        String[] lines = export("ndjson").split("\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"type\":\"meal\"").contains("\"calories\":450");
+        assertThat(lines[2]).startsWith("{\"type\":\"workout\"").contains("\"caloriesBurned\":250");
+    }
+
+    @Test
+    void rejectsUnknownFormatAndMissingUser() throws Exception {
+        mockMvc.perform(get("/api/users/{id}/export", userId).param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users/{id}/export", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    private String export(String format) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/users/{id}/export", userId).param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"meal-mate-user-" + userId + "." + format + "\""))
+                .andReturn();
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+}
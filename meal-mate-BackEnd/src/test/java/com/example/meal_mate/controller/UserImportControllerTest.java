@@ -0,0 +1,107 @@
+package com.example.meal_mate.controller;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.repository.UserRepository;
+import com.example.meal_mate.service.DailySummaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * CSV 가져오기 - 행 단위 검증, 청크 커밋, 오류 보고 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class UserImportControllerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DailySummaryService dailySummaryService;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(TestFixtures.user("im").build()).getId();
+    }
+
+    @Test
+    void importsValidRowsAndReportsInvalidOnes() throws Exception {
+        String csv = "record_type,date,time,name,meal_type,calories,protein,quantity,duration,calories_burned,memo\n"
+                + "meal,2025-07-09,2025-07-09 12:00,\"김치찌개, 매운맛\",lunch,450,20.5,1,,,\"여러 줄\n메모\"\n"
+                + "meal,2025-07-09,,salad,dinner,abc,,1,,,\n"
+                + "meal,2025-07-09,,,dinner,300,,1,,,\n"
+                + "workout,,2025-07-09T07:00,run,,,,,30,250,\n"
+                + "\n"
+                + "snack,2025-07-09,,chips,snack,200,,1,,,\n";
+
+        mockMvc.perform(multipart("/api/users/{id}/import", userId).file(csv(csv)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(5))
+                .andExpect(jsonPath("$.importedMeals").value(1))
+                .andExpect(jsonPath("$.importedWorkouts").value(1))
+                .andExpect(jsonPath("$.failedRows").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(4))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[1].message").value("foodName: 음식명은 필수입니다."))
+                .andExpect(jsonPath("$.errors[2].line").value(8));
+
+        mockMvc.perform(get("/api/meals/user/{userId}/date/{date}", userId, DAY))
+                .andExpect(jsonPath("$[0].foodName").value("김치찌개, 매운맛"))
+                .andExpect(jsonPath("$[0].memo").value("여러 줄\n메모"));
+        assertThat(dailySummaryService.getTotals(userId, DAY, DAY).getCaloriesIn()).isEqualTo(450);
+    }
+
+    @Test
+    void commitsInChunks() throws Exception {
+        StringBuilder csv = new StringBuilder("name,meal_type,calories,date\n");
+        for (int i = 0; i < 1_201; i++) {
+            csv.append("food").append(i).append(",snack,100,").append(DAY).append('\n');
+        }
+
+        mockMvc.perform(multipart("/api/users/{id}/import", userId).file(csv(csv.toString())).param("type", "meal"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedMeals").value(1_201))
+                .andExpect(jsonPath("$.committedChunks").value(3))
+                .andExpect(jsonPath("$.failedRows").value(0));
+
+        assertThat(dailySummaryService.getTotals(userId, DAY, DAY).getMealCount()).isEqualTo(1_201);
+    }
+
+    @Test
+    void rejectsFileWithoutTypeInformation() throws Exception {
+        mockMvc.perform(multipart("/api/users/{id}/import", userId).file(csv("name,calories\nrice,300\n")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failedRows").value(1));
+        mockMvc.perform(multipart("/api/users/{id}/import", userId).file(csv("name\nrice\n")).param("type", "drink"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "history.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
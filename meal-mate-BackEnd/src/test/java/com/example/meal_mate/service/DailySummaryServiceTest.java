@@ -0,0 +1,169 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.config.SqlStatementCounter;
+import com.example.meal_mate.dto.meal.MealCreateDto;
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.dto.meal.MealUpdateDto;
+import com.example.meal_mate.dto.summary.DailySummaryResponseDto;
+import com.example.meal_mate.dto.summary.TrendPointDto;
+import com.example.meal_mate.dto.summary.TrendResponseDto;
+import com.example.meal_mate.dto.workout.WorkoutCreateDto;
+import com.example.meal_mate.dto.workout.WorkoutResponseDto;
+import com.example.meal_mate.dto.workout.WorkoutUpdateDto;
+import com.example.meal_mate.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 식사/운동 생성·수정·삭제로 누적된 일일 요약이 원본 기준 재계산 결과와 같은지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DailySummaryServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+
+    @Autowired
+    private DailySummaryService dailySummaryService;
+
+    @Autowired
+    private MealService mealService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(TestFixtures.user("ds").build()).getId();
+    }
+
+    @Test
+    void deltasMatchRebuildFromRawRows() {
+        MealResponseDto breakfast = mealService.createMeal(meal(400, 20.0, DAY));
+        mealService.createMeals(List.of(meal(600, 30.0, DAY), meal(300, 10.0, DAY), meal(500, 25.0, NEXT_DAY)));
+        WorkoutResponseDto run = workoutService.createWorkout(workout(250, 30, DAY));
+        workoutService.createWorkouts(List.of(workout(100, 15, DAY), workout(300, 40, NEXT_DAY)));
+
+        // 날짜를 옮기는 수정과 삭제까지 반영
+        MealUpdateDto moved = new MealUpdateDto();
+        moved.setFoodName("moved");
+        moved.setCalories(450);
+        moved.setProtein(22.0);
+        moved.setQuantity(1);
+        moved.setMealType("dinner");
+        moved.setMealDate(NEXT_DAY);
+        moved.setMealTime(NEXT_DAY.atTime(19, 0));
+        mealService.updateMeal(breakfast.getId(), moved);
+        workoutService.updateWorkout(run.getId(), new WorkoutUpdateDto("run", 45, 400, DAY.atTime(7, 0), null));
+        List<MealResponseDto> day = mealService.getMealsByUserIdAndDate(userId, DAY);
+        mealService.deleteMeal(day.get(0).getId());
+
+        List<DailySummaryResponseDto> incremental = dailySummaryService.getDailySummaries(userId, DAY, NEXT_DAY);
+        assertThat(incremental).hasSize(2);
+        assertThat(incremental.get(0).getCaloriesIn().doubleValue())
+                .isEqualTo(mealService.getTotalCaloriesByUserAndDate(userId, DAY));
+
+        dailySummaryService.rebuild(userId);
+        List<DailySummaryResponseDto> rebuilt = dailySummaryService.getDailySummaries(userId, DAY, NEXT_DAY);
+
+        assertThat(incremental).usingRecursiveFieldByFieldElementComparator().isEqualTo(rebuilt);
+    }
+
+    @Test
+    void deletingLastRecordOfDayRemovesSummaryRow() {
+        MealResponseDto only = mealService.createMeal(meal(400, 20.0, DAY));
+        WorkoutResponseDto run = workoutService.createWorkout(workout(250, 30, NEXT_DAY));
+        mealService.createMeal(meal(300, null, NEXT_DAY));
+
+        mealService.deleteMeal(only.getId());
+        workoutService.deleteWorkout(run.getId());
+
+        List<DailySummaryResponseDto> incremental = dailySummaryService.getDailySummaries(userId, DAY, NEXT_DAY);
+        assertThat(incremental).extracting(DailySummaryResponseDto::getDate).containsExactly(NEXT_DAY);
+
+        dailySummaryService.rebuild(userId);
+        assertThat(dailySummaryService.getDailySummaries(userId, DAY, NEXT_DAY))
+                .usingRecursiveFieldByFieldElementComparator().isEqualTo(incremental);
+    }
+
+    @Test
+    void averagesReadFromSummary() {
+        mealService.createMeals(List.of(meal(300, null, DAY), meal(500, null, NEXT_DAY)));
+        workoutService.createWorkouts(List.of(workout(200, 20, DAY), workout(400, 40, DAY)));
+
+        assertThat(mealService.getAverageCaloriesByUserAndDateRange(userId, DAY, NEXT_DAY)).isEqualTo(400.0);
+        assertThat(workoutService.getAverageCaloriesBurnedByUserAndDateRange(userId, DAY, NEXT_DAY)).isEqualTo(300.0);
+        assertThat(mealService.getAverageCaloriesByUserAndDateRange(userId, DAY.minusDays(7), DAY.minusDays(1))).isZero();
+    }
+
+    @Test
+    void trendAveragesPerLoggedDayInOneQuery() {
+        mealService.createMeals(List.of(meal(900, null, DAY.minusDays(20)), meal(300, null, DAY),
+                meal(500, null, DAY.plusDays(2)), meal(100, null, DAY.plusDays(2))));
+        workoutService.createWorkout(workout(200, 20, DAY));
+
+        SqlStatementCounter.Stats stats = SqlStatementCounter.start();
+        TrendResponseDto trend = dailySummaryService.getTrend(userId, DAY, DAY.plusDays(2));
+        SqlStatementCounter.stop(stats);
+
+        assertThat(stats.getStatements()).isEqualTo(1);
+        assertThat(trend.getDays()).extracting(TrendPointDto::getDate)
+                .containsExactly(DAY, DAY.plusDays(1), DAY.plusDays(2));
+        assertThat(trend.getDays()).extracting(TrendPointDto::isLogged).containsExactly(true, false, true);
+        assertThat(trend.getDays()).extracting(TrendPointDto::getNetCalories).containsExactly(100L, 0L, 600L);
+        assertThat(trend.getLoggedDays()).isEqualTo(2);
+        assertThat(trend.getAverageCaloriesIn()).isEqualTo(450.0);
+        assertThat(trend.getAverageNetCalories()).isEqualTo(350.0);
+
+        // 시작일 이전 기록도 이동 평균에 포함 (기록 없는 날은 제외)
+        TrendPointDto first = trend.getDays().get(0);
+        assertThat(first.getRolling7CaloriesIn()).isEqualTo(300.0);
+        assertThat(first.getRolling30CaloriesIn()).isEqualTo(600.0);
+        TrendPointDto last = trend.getDays().get(2);
+        assertThat(last.getRolling7CaloriesIn()).isEqualTo(450.0);
+        assertThat(last.getRolling7CaloriesBurned()).isEqualTo(100.0);
+        assertThat(last.getRolling7NetCalories()).isEqualTo(350.0);
+        assertThat(last.getRolling30CaloriesIn()).isEqualTo(600.0);
+    }
+
+    @Test
+    void trendTreatsDaysWhoseRecordsWereAllDeletedAsUnlogged() {
+        mealService.createMeals(List.of(meal(300, null, DAY), meal(100, null, DAY.plusDays(2))));
+        MealResponseDto only = mealService.createMeal(meal(500, null, DAY.plusDays(1)));
+        mealService.deleteMeal(only.getId());
+
+        TrendResponseDto trend = dailySummaryService.getTrend(userId, DAY, DAY.plusDays(2));
+
+        // 마지막 기록을 지울 때 요약 행도 지우므로 추이에서는 기록 없는 날
+        assertThat(trend.getDays()).extracting(TrendPointDto::isLogged).containsExactly(true, false, true);
+        assertThat(trend.getLoggedDays()).isEqualTo(2);
+        assertThat(trend.getAverageCaloriesIn()).isEqualTo(200.0);
+        assertThat(trend.getDays().get(2).getRolling7CaloriesIn()).isEqualTo(200.0);
+        assertThat(dailySummaryService.getRangeStatistics(userId, DAY, DAY.plusDays(2)).getLoggedDays()).isEqualTo(2);
+    }
+
+    private MealCreateDto meal(int calories, Double protein, LocalDate date) {
+        MealCreateDto dto = TestFixtures.meal(userId, calories, date);
+        dto.setProtein(protein);
+        return dto;
+    }
+
+    private WorkoutCreateDto workout(int caloriesBurned, int duration, LocalDate date) {
+        return new WorkoutCreateDto("run", "cardio", duration, caloriesBurned, date.atTime(18, 0), null, userId);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.dto.meal.MealUpdateDto;
+import com.example.meal_mate.dto.workout.WorkoutCreateDto;
+import com.example.meal_mate.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static com.example.meal_mate.TestFixtures.meal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일일 합계 캐시 - 적중, 정확한 무효화, 지표 노출 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DailyTotalsCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+
+    @Autowired
+    private MealService mealService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(TestFixtures.user("tc").build()).getId();
+    }
+
+    @Test
+    void servesRepeatedReadsFromCacheAndEvictsOnlyTheChangedDay() {
+        MealResponseDto lunch = mealService.createMeal(meal(userId, 500, DAY));
+        mealService.createMeal(meal(userId, 300, NEXT_DAY));
+        workoutService.createWorkout(new WorkoutCreateDto("run", "cardio", 30, 250, DAY.atTime(7, 0), null, userId));
+
+        assertThat(mealService.getTotalCaloriesByUserAndDate(userId, DAY)).isEqualTo(500);
+        assertThat(mealService.getTotalCaloriesByUserAndDate(userId, NEXT_DAY)).isEqualTo(300);
+        assertThat(workoutService.getTotalDurationByUserAndDate(userId, DAY)).isEqualTo(30);
+
+        double hits = hits();
+        assertThat(mealService.getTotalCaloriesByUserAndDate(userId, DAY)).isEqualTo(500);
+        assertThat(hits()).isEqualTo(hits + 1);
+
+        // 다른 날짜 식사 추가 -> DAY 의 식사 합계는 그대로 적중
+        mealService.createMeal(meal(userId, 100, NEXT_DAY));
+        assertThat(mealService.getTotalCaloriesByUserAndDate(userId, DAY)).isEqualTo(500);
+        assertThat(mealService.getTotalCaloriesByUserAndDate(userId, NEXT_DAY)).isEqualTo(400);
+
+        // 운동 추가 -> 식사 합계는 유지, 운동 합계만 다시 계산
+        hits = hits();
+        workoutService.createWorkout(new WorkoutCreateDto("swim", "cardio", 20, 150, DAY.atTime(19, 0), null, userId));
+        assertThat(mealService.getTotalCaloriesByUserAndDate(userId, DAY)).isEqualTo(500);
+        assertThat(hits()).isEqualTo(hits + 1);
+        assertThat(workoutService.getTotalDurationByUserAndDate(userId, DAY)).isEqualTo(50);
+        assertThat(workoutService.getTotalCaloriesBurnedByUserAndDate(userId, DAY)).isEqualTo(400);
+
+        // 날짜를 옮기는 수정 -> 이전 날짜와 새 날짜 모두 무효화
+        MealUpdateDto moved = new MealUpdateDto();
+        moved.setFoodName("moved");
+        moved.setCalories(500);
+        moved.setQuantity(1);
+        moved.setMealType("dinner");
+        moved.setMealDate(NEXT_DAY);
+        moved.setMealTime(NEXT_DAY.atTime(19, 0));
+        mealService.updateMeal(lunch.getId(), moved);
+        assertThat(mealService.getTotalCaloriesByUserAndDate(userId, DAY)).isZero();
+        assertThat(mealService.getTotalCaloriesByUserAndDate(userId, NEXT_DAY)).isEqualTo(900);
+    }
+
+    @Test
+    void exposesHitRatioAndEvictionMetrics() {
+        mealService.getTotalCaloriesByUserAndDate(userId, DAY);
+        mealService.getTotalCaloriesByUserAndDate(userId, DAY);
+
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", "dailyTotals").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "dailyTotals").functionCounter()).isNotNull();
+        assertThat(meterRegistry.get("cache.size").tag("cache", "dailyTotals").gauge().value()).isPositive();
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tags("cache", "dailyTotals", "result", "hit").functionCounter().count();
+    }
+}
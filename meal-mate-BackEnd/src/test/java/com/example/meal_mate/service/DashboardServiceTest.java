@@ -0,0 +1,84 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.config.ReadYourWritesTracker;
+import com.example.meal_mate.dto.user.UserResponseDto;
+import com.example.meal_mate.exception.ServiceUnavailableException;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.WorkoutRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실행기 큐가 가득 차 일부 조회가 거절되면, 먼저 들어간 조회도 취소되어 503 뒤에 실행되지 않는지 확인
+ */
+class DashboardServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final UserService userService = mock(UserService.class);
+    private final MealRepository mealRepository = mock(MealRepository.class);
+    private final WorkoutRepository workoutRepository = mock(WorkoutRepository.class);
+    private DashboardService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void rejectedSubmitCancelsQueriesAlreadyQueued() throws Exception {
+        // 작업자 1개 + 큐 1칸: 프로필 조회가 작업자를 잡고, 식사 조회가 큐를 채우고, 운동 조회가 거절됨
+        when(userService.getUserById(anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return UserResponseDto.builder().id(1L).build();
+        });
+        service = newService(1, 1);
+
+        assertThatThrownBy(() -> service.getDailyDashboard(1L, LocalDate.of(2025, 7, 9)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(registry.get(DashboardService.METRIC_PREFIX + ".rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        awaitIdle();
+        verify(mealRepository, never()).findResponsesByUserIdAndMealDate(anyLong(), any());
+        verify(workoutRepository, never()).findResponsesByUserIdAndWorkoutDate(anyLong(), any());
+    }
+
+    private DashboardService newService(int threads, int queueCapacity) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("registry", registry);
+        return new DashboardService(userService, mealRepository, workoutRepository,
+                new ReadYourWritesTracker(Duration.ZERO), mock(PlatformTransactionManager.class),
+                threads, queueCapacity, Duration.ofSeconds(5), beans.getBeanProvider(MeterRegistry.class));
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (gauge(".queue.size") > 0 || gauge(".active") > 0) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private double gauge(String name) {
+        return registry.get(DashboardService.METRIC_PREFIX + name).gauge().value();
+    }
+}
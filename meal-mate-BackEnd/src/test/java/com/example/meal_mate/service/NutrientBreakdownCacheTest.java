@@ -0,0 +1,134 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.config.SqlStatementCounter;
+import com.example.meal_mate.dto.meal.MealCreateDto;
+import com.example.meal_mate.dto.meal.NutrientBreakdownResponseDto;
+import com.example.meal_mate.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 영양소 분석 - 날짜/식사 유형별 합계, (사용자, 기간) 캐시와 무효화 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class NutrientBreakdownCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+
+    @Autowired
+    private MealService mealService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(TestFixtures.user("nb").build()).getId();
+    }
+
+    @Test
+    void groupsByDayAndMealTypeAndCachesPerRange() {
+        mealService.createMeals(List.of(
+                meal(400, "breakfast", DAY, 5.0, 10.0, 300.0),
+                meal(600, "lunch", DAY, 8.0, null, 900.0),
+                meal(200, "lunch", DAY, 2.0, 4.0, 100.0),
+                meal(500, "dinner", NEXT_DAY, 6.0, 12.0, 700.0)));
+
+        NutrientBreakdownResponseDto breakdown = mealService.getNutrientBreakdown(userId, DAY, NEXT_DAY);
+
+        assertThat(breakdown.getTotal().getMealCount()).isEqualTo(4);
+        assertThat(breakdown.getTotal().getCalories()).isEqualTo(1700);
+        assertThat(breakdown.getTotal().getFiber()).isEqualTo(21.0);
+        assertThat(breakdown.getTotal().getSugar()).isEqualTo(26.0);
+        assertThat(breakdown.getTotal().getSodium()).isEqualTo(2000.0);
+        assertThat(breakdown.getByMealType().get("lunch").getCalories()).isEqualTo(800);
+        assertThat(breakdown.getByMealType().get("lunch").getMealCount()).isEqualTo(2);
+        assertThat(breakdown.getDays()).hasSize(2);
+        assertThat(breakdown.getDays().get(0).getTotal().getSodium()).isEqualTo(1300.0);
+        assertThat(breakdown.getDays().get(0).getByMealType()).containsOnlyKeys("breakfast", "lunch");
+        assertThat(breakdown.getDays().get(1).getByMealType().get("dinner").getSugar()).isEqualTo(12.0);
+
+        // 같은 기간 재조회는 SQL 없이 캐시에서
+        SqlStatementCounter.Stats stats = SqlStatementCounter.start();
+        assertThat(mealService.getNutrientBreakdown(userId, DAY, NEXT_DAY)).isSameAs(breakdown);
+        SqlStatementCounter.stop(stats);
+        assertThat(stats.getStatements()).isZero();
+
+        // 기간 밖 날짜의 기록은 캐시를 유지하고, 기간 안 날짜의 기록은 무효화
+        mealService.createMeal(meal(100, "snack", DAY.minusDays(1), 1.0, 1.0, 1.0));
+        assertThat(mealService.getNutrientBreakdown(userId, DAY, NEXT_DAY)).isSameAs(breakdown);
+
+        mealService.createMeal(meal(100, "snack", NEXT_DAY, 1.0, 1.0, 1.0));
+        NutrientBreakdownResponseDto refreshed = mealService.getNutrientBreakdown(userId, DAY, NEXT_DAY);
+        assertThat(refreshed.getTotal().getCalories()).isEqualTo(1800);
+        assertThat(refreshed.getDays().get(1).getByMealType()).containsOnlyKeys("dinner", "snack");
+    }
+
+    @Test
+    void loadStartedBeforeEvictionIsNotStored() throws Exception {
+        NutrientBreakdownCache cache = new NutrientBreakdownCache(100, Duration.ofMinutes(10),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        NutrientBreakdownResponseDto stale = NutrientBreakdownResponseDto.builder().userId(userId).build();
+        NutrientBreakdownResponseDto fresh = NutrientBreakdownResponseDto.builder().userId(userId).build();
+        NutrientBreakdownResponseDto otherUser = NutrientBreakdownResponseDto.builder().userId(userId + 1).build();
+        cache.get(userId + 1, DAY, NEXT_DAY, () -> otherUser);
+
+        // 커밋 전 값을 읽은 계산이 끝나기 전에 그 날짜의 무효화가 실행됨
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<NutrientBreakdownResponseDto> inFlight = CompletableFuture.supplyAsync(() ->
+                cache.get(userId, DAY, NEXT_DAY, () -> {
+                    loading.countDown();
+                    await(release);
+                    return stale;
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.evict(userId, NEXT_DAY);
+        release.countDown();
+
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isSameAs(stale);
+        assertThat(cache.get(userId, DAY, NEXT_DAY, () -> fresh)).isSameAs(fresh);
+        assertThat(cache.get(userId, DAY, NEXT_DAY, () -> stale)).isSameAs(fresh);
+        // 다른 사용자의 같은 기간은 그대로
+        assertThat(cache.get(userId + 1, DAY, NEXT_DAY, () -> fresh)).isSameAs(otherUser);
+
+        cache.evictUser(userId);
+        assertThat(cache.get(userId, DAY, NEXT_DAY, () -> stale)).isSameAs(stale);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private MealCreateDto meal(int calories, String mealType, LocalDate date, Double fiber, Double sugar, Double sodium) {
+        MealCreateDto dto = TestFixtures.meal(userId, calories, date);
+        dto.setFiber(fiber);
+        dto.setSugar(sugar);
+        dto.setSodium(sodium);
+        dto.setMealType(mealType);
+        return dto;
+    }
+}
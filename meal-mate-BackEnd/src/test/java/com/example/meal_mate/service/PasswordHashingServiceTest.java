@@ -0,0 +1,88 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해싱 풀/큐가 가득 차면 요청 스레드를 붙잡지 않고 바로 503 으로 거절하는지 확인
+ */
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenWorkersAndQueueAreFull() throws Exception {
+        service = newService(1, 1);
+
+        // 작업자 1개 + 큐 1칸을 채움
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("a"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("b"));
+        awaitQueueSize(1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> service.encode("c")).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+        assertThat(registry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+        assertThat(service.matches("a", "hashed:a")).isTrue();
+        assertThat(registry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(2);
+    }
+
+    private PasswordHashingService newService(int threads, int queueCapacity) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("registry", registry);
+        return new PasswordHashingService(new BlockingEncoder(), threads, queueCapacity, Duration.ofSeconds(5),
+                beans.getBeanProvider(MeterRegistry.class));
+    }
+
+    private void awaitQueueSize(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (registry.get("password.hash.queue.size").gauge().value() < expected) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    // release 전까지 해싱이 끝나지 않는 인코더
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return ("hashed:" + rawPassword).equals(encodedPassword);
+        }
+    }
+}
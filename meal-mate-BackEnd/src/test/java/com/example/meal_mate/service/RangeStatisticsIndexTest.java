@@ -0,0 +1,123 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.config.SqlStatementCounter;
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.dto.summary.RangeStatisticsDto;
+import com.example.meal_mate.dto.workout.WorkoutCreateDto;
+import com.example.meal_mate.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.meal_mate.TestFixtures.meal;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * 기간 통계 누적합 인덱스 - 증감 반영 후에도 단순 합계와 같은지, 빌드 이후 조회가 SQL 없이 끝나는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RangeStatisticsIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+
+    @Autowired
+    private DailySummaryService dailySummaryService;
+
+    @Autowired
+    private MealService mealService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(TestFixtures.user("ri").build()).getId();
+    }
+
+    @Test
+    void prefixSumsMatchBruteForceAfterRandomUpdates() {
+        Random random = new Random(42);
+        int span = 400;
+        long[] calories = new long[span];
+        int[] meals = new int[span];
+        int[] workouts = new int[span];
+
+        // 중간에서 시작해 앞/뒤로 범위가 늘어나고, 기록이 다시 0 이 되는 날도 생기도록 갱신
+        RangeStatisticsIndex.UserIndex index = RangeStatisticsIndex.UserIndex.of(List.of());
+        for (int i = 0; i < 3_000; i++) {
+            int day = span / 2 + (int) (random.nextGaussian() * span / 6);
+            day = Math.max(0, Math.min(span - 1, day));
+            boolean remove = meals[day] > 0 && random.nextInt(3) == 0;
+            int value = remove ? -(int) (calories[day] / meals[day]) : random.nextInt(900);
+            int mealDelta = remove ? -1 : 1;
+            int workoutDelta = random.nextInt(5) == 0 && !remove ? 1 : 0;
+            calories[day] += value;
+            meals[day] += mealDelta;
+            workouts[day] += workoutDelta;
+            index.add(DAY.plusDays(day), value, value / 10.0, 0, 0, mealDelta, 0, 0, workoutDelta);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            int from = random.nextInt(span + 40) - 20;
+            int to = from + random.nextInt(span / 2);
+            long expectedCalories = 0;
+            int expectedMeals = 0;
+            int expectedLogged = 0;
+            for (int day = Math.max(from, 0); day <= Math.min(to, span - 1); day++) {
+                expectedCalories += calories[day];
+                expectedMeals += meals[day];
+                expectedLogged += meals[day] + workouts[day] > 0 ? 1 : 0;
+            }
+            RangeStatisticsIndex.RangeTotals totals = index.totals(DAY.plusDays(from), DAY.plusDays(to));
+            assertThat(totals.days()).isEqualTo(to - from + 1);
+            assertThat(totals.caloriesIn()).isEqualTo(expectedCalories);
+            assertThat(totals.protein()).isCloseTo(expectedCalories / 10.0, offset(1e-6));
+            assertThat(totals.mealCount()).isEqualTo(expectedMeals);
+            assertThat(totals.loggedDays()).isEqualTo(expectedLogged);
+        }
+    }
+
+    @Test
+    void buildsOnceAndAppliesWritesWithoutQueries() {
+        mealService.createMeals(List.of(meal(userId, 300, DAY.minusDays(30)), meal(userId, 500, DAY), meal(userId, 700, DAY)));
+        workoutService.createWorkout(new WorkoutCreateDto("run", "cardio", 30, 200, DAY.atTime(7, 0), null, userId));
+
+        RangeStatisticsDto first = dailySummaryService.getRangeStatistics(userId, DAY.minusDays(60), DAY);
+        assertThat(first.getLoggedDays()).isEqualTo(2);
+        assertThat(first.getCaloriesIn()).isEqualTo(1500L);
+        assertThat(first.getAverageCaloriesIn()).isEqualTo(750.0);
+        assertThat(first.getAverageNetCalories()).isEqualTo(650.0);
+
+        // 이후 쓰기는 커밋 직후 인덱스에 반영되어 조회 때 SQL 이 나가지 않음
+        MealResponseDto later = mealService.createMeal(meal(userId, 400, DAY.plusDays(10)));
+        SqlStatementCounter.Stats stats = SqlStatementCounter.start();
+        RangeStatisticsDto afterCreate = dailySummaryService.getRangeStatistics(userId, DAY, DAY.plusDays(10));
+        SqlStatementCounter.stop(stats);
+        assertThat(stats.getStatements()).isZero();
+        assertThat(afterCreate.getCaloriesIn()).isEqualTo(1600L);
+        assertThat(afterCreate.getLoggedDays()).isEqualTo(2);
+        assertThat(afterCreate.getDays()).isEqualTo(11);
+
+        mealService.deleteMeal(later.getId());
+        assertThat(dailySummaryService.getRangeStatistics(userId, DAY, DAY.plusDays(10)).getLoggedDays()).isEqualTo(1);
+
+        // 재적재 후 다시 빌드한 값도 같음
+        dailySummaryService.rebuild(userId);
+        RangeStatisticsDto rebuilt = dailySummaryService.getRangeStatistics(userId, DAY.minusDays(60), DAY);
+        assertThat(rebuilt).usingRecursiveComparison().isEqualTo(first);
+    }
+}
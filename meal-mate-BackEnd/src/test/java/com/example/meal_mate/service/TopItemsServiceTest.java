@@ -0,0 +1,134 @@
+package com.example.meal_mate.service;
+
+import com.example.meal_mate.TestFixtures;
+import com.example.meal_mate.config.SqlStatementCounter;
+import com.example.meal_mate.dto.common.NameCountRow;
+import com.example.meal_mate.dto.common.TopItemDto;
+import com.example.meal_mate.dto.meal.MealCreateDto;
+import com.example.meal_mate.dto.meal.MealResponseDto;
+import com.example.meal_mate.dto.meal.MealUpdateDto;
+import com.example.meal_mate.dto.workout.WorkoutCreateDto;
+import com.example.meal_mate.entity.TopItemsSketch;
+import com.example.meal_mate.exception.BadRequestException;
+import com.example.meal_mate.exception.ResourceNotFoundException;
+import com.example.meal_mate.repository.MealRepository;
+import com.example.meal_mate.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 자주 먹은 음식 / 자주 한 운동 상위 항목 - 생성·수정·삭제 반영, 캐시 조회, 정확한 재집계 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TopItemsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 9);
+
+    @Autowired
+    private TopItemsService topItemsService;
+
+    @Autowired
+    private MealService mealService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private MealRepository mealRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(TestFixtures.user("ti").build()).getId();
+    }
+
+    @Test
+    void tracksCreatesUpdatesAndDeletes() {
+        List<MealResponseDto> created = mealService.createMeals(List.of(meal("rice"), meal("rice"), meal("kimchi"), meal("salad")));
+        MealResponseDto lastRice = mealService.createMeal(meal("rice"));
+        mealService.createMeal(meal("kimchi"));
+        workoutService.createWorkout(new WorkoutCreateDto("run", "cardio", 30, 200, DAY.atTime(7, 0), null, userId));
+
+        assertThat(names(topItemsService.getTopFoods(userId, null))).containsExactly("rice", "kimchi", "salad");
+        assertThat(topItemsService.getTopFoods(userId, 1).get(0).getCount()).isEqualTo(3L);
+        assertThat(names(topItemsService.getTopExercises(userId, null))).containsExactly("run");
+
+        // 커밋 직후 캐시에 반영되어 조회 때 SQL 이 나가지 않음
+        mealService.deleteMeal(lastRice.getId());
+        SqlStatementCounter.Stats stats = SqlStatementCounter.start();
+        List<TopItemDto> afterDelete = topItemsService.getTopFoods(userId, null);
+        SqlStatementCounter.stop(stats);
+        assertThat(stats.getStatements()).isZero();
+        assertThat(names(afterDelete)).containsExactly("kimchi", "rice", "salad");
+
+        mealService.updateMeal(created.get(3).getId(), update("soup"));
+        assertThat(names(topItemsService.getTopFoods(userId, null))).containsExactly("kimchi", "rice", "soup");
+
+        assertThatThrownBy(() -> topItemsService.getTopFoods(userId, 21)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> topItemsService.getTopFoods(-1L, null)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void recountReplacesDriftedCounts() {
+        mealService.createMeals(List.of(meal("rice"), meal("rice"), meal("kimchi")));
+
+        // 훅을 거치지 않은 삭제는 요약에 반영되지 않음 -> 재집계로 정확해짐
+        mealRepository.deleteAll(mealRepository.findAll().stream()
+                .filter(meal -> meal.getUser().getId().equals(userId) && meal.getFoodName().equals("rice"))
+                .toList());
+        assertThat(names(topItemsService.getTopFoods(userId, null))).containsExactly("rice", "kimchi");
+
+        topItemsService.recount(userId, TopItemsSketch.Kind.FOOD);
+        List<TopItemDto> recounted = topItemsService.getTopFoods(userId, null);
+        assertThat(names(recounted)).containsExactly("kimchi");
+        assertThat(recounted.get(0).getMinimumCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void sketchKeepsErrorBoundsWhenFullAndSurvivesEncoding() {
+        SpaceSavingSketch sketch = SpaceSavingSketch.exact(List.of(new NameCountRow("a", 5L), new NameCountRow("b", 2L)), 2);
+        sketch.add("c", 1);   // b(2) 자리를 넘겨받아 count 3, error 2
+        sketch.add("b", -1);  // 감시 중이 아닌 항목의 삭제는 무시
+
+        List<TopItemDto> top = SpaceSavingSketch.decode(sketch.encode(), 2).top(10);
+        assertThat(names(top)).containsExactly("a", "c");
+        assertThat(top.get(1).getCount()).isEqualTo(3L);
+        assertThat(top.get(1).getMinimumCount()).isEqualTo(1L);
+        assertThat(SpaceSavingSketch.decode(new byte[0], 2).size()).isZero();
+    }
+
+    private static List<String> names(List<TopItemDto> items) {
+        return items.stream().map(TopItemDto::getName).toList();
+    }
+
+    private MealCreateDto meal(String foodName) {
+        MealCreateDto dto = TestFixtures.meal(userId, 300, DAY);
+        dto.setFoodName(foodName);
+        return dto;
+    }
+
+    private MealUpdateDto update(String foodName) {
+        MealUpdateDto dto = new MealUpdateDto();
+        dto.setFoodName(foodName);
+        dto.setCalories(300);
+        dto.setQuantity(1);
+        dto.setMealType("lunch");
+        dto.setMealDate(DAY);
+        dto.setMealTime(DAY.atTime(12, 0));
+        return dto;
+    }
+}